@@ -0,0 +1,209 @@
+package com.inspection.benchmark;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.inspection.config.ReportTemplateConfig;
+import com.inspection.dto.InspectionDetailDTO;
+import com.inspection.service.ImageDerivativeService;
+import com.inspection.service.PdfRenderContext;
+import com.inspection.service.PdfService;
+import com.inspection.storage.StorageArea;
+import com.inspection.util.MeasurementMapper;
+
+/* 점검 결과서 PDF 렌더링 벤치마크
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.json)
+ * 측정개소 행 수와 첨부 이미지 수를 키운 가상 점검 데이터로 처리량, 할당률(gc 프로파일러), 출력 크기를 본다.
+ * render는 폰트/스타일/로고를 한 번 만든 PdfRenderContext를 공유하고(현재 구조), renderWithNewContext는
+ * 문서마다 새로 만든다(기준선). 두 결과의 차이가 공용 렌더링 리소스로 얻은 효과다.
+ * 이미지는 임시 디렉터리를 저장소 루트로 삼아 만들고(실제 uploads는 건드리지 않음) 종료 시 디렉터리째 지운다. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PdfServiceBenchmark {
+
+    private static final String IMAGE_PREFIX = "jmh-fixture-";
+
+    // 측정개소 수 / 첨부 이미지 수
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private String size;
+
+    private ThreadPoolTaskExecutor executor;
+    private ImageDerivativeService imageDerivativeService;
+    private ReportTemplateConfig templates;
+    private PdfService pdfService;
+    private InspectionDetailDTO data;
+    private Path storageRoot;
+
+    /* 출력 PDF 크기 (마지막 렌더링 결과, 바이트) */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+        public long pdfBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pdfBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+
+        storageRoot = Files.createTempDirectory("jmh-storage-");
+        imageDerivativeService = new ImageDerivativeService(executor);
+        templates = new ReportTemplateConfig(storageRoot.toString());
+        pdfService = createPdfService();
+
+        int measurementCount;
+        int imageCount;
+        switch (size) {
+            case "SMALL" -> { measurementCount = 1; imageCount = 0; }
+            case "MEDIUM" -> { measurementCount = 10; imageCount = 3; }
+            case "LARGE" -> { measurementCount = 50; imageCount = 10; }
+            default -> throw new IllegalArgumentException("알 수 없는 크기: " + size);
+        }
+        data = createInspection(measurementCount, createImages(imageCount));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        // 원본과 렌더링 중 만든 파생본을 모두 지운다
+        try (Stream<Path> paths = Files.walk(storageRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int render(Output output) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        pdfService.writeInspectionPdf(data, out);
+        output.pdfBytes = out.size();
+        return out.size();
+    }
+
+    /* 기준선: 문서마다 폰트 파싱, 스타일, 로고/도장 이미지를 새로 만든다 */
+    @Benchmark
+    public int renderWithNewContext(Output output) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        createPdfService().writeInspectionPdf(data, out);
+        output.pdfBytes = out.size();
+        return out.size();
+    }
+
+    private PdfService createPdfService() {
+        PdfRenderContext renderContext = new PdfRenderContext(new DefaultResourceLoader());
+        renderContext.init();
+        // 서명이 없는 데이터라 서명 저장소는 쓰지 않는다
+        return new PdfService(null, imageDerivativeService, renderContext, null,
+            templates.inspectionReportTemplate(), templates.fireSafetyReportTemplate());
+    }
+
+    private InspectionDetailDTO createInspection(int measurementCount, List<String> images) {
+        InspectionDetailDTO dto = new InspectionDetailDTO();
+        dto.setInspectionId(1L);
+        dto.setCompanyName("벤치마크 업체");
+        dto.setInspectionDate(LocalDate.of(2024, 1, 15));
+        dto.setManagerName("홍길동");
+        dto.setFaucetVoltage(22900);
+        dto.setFaucetCapacity(500);
+        dto.setGenerationVoltage(380);
+        dto.setGenerationCapacity(100);
+        dto.setSolarCapacity(50);
+        dto.setContractCapacity(300);
+        dto.setInspectionType("정기");
+        dto.setInspectionCount(3);
+
+        // 점검내역은 모든 항목을 채운다
+        char[] statuses = {'O', 'X', '/'};
+        dto.setWiringInlet(statuses[0]);
+        dto.setDistributionPanel(statuses[1]);
+        dto.setMoldedCaseBreaker(statuses[2]);
+        dto.setEarthLeakageBreaker(statuses[0]);
+        dto.setSwitchGear(statuses[1]);
+        dto.setWiring(statuses[2]);
+        dto.setMotor(statuses[0]);
+        dto.setHeatingEquipment(statuses[1]);
+        dto.setWelder(statuses[2]);
+        dto.setCapacitor(statuses[0]);
+        dto.setLighting(statuses[1]);
+        dto.setGrounding(statuses[2]);
+        dto.setInternalWiring(statuses[0]);
+        dto.setGenerator(statuses[1]);
+        dto.setOtherEquipment(statuses[2]);
+
+        List<Map<String, Object>> measurements = new ArrayList<>();
+        for (int i = 0; i < measurementCount; i++) {
+            Map<String, Object> measurement = new HashMap<>();
+            measurement.put("location", "분전반 " + (i + 1));
+            for (String phase : MeasurementMapper.PHASES) {
+                measurement.put("voltage" + phase, 220 + i % 5);
+                measurement.put("current" + phase, 10.5 + i);
+                measurement.put("temperature" + phase, 30 + i % 20);
+            }
+            measurements.add(measurement);
+        }
+        dto.setMeasurements(MeasurementMapper.toDTOs(MeasurementMapper.toRows(measurements)));
+        dto.setSpecialNotes("분전반 내부 먼지 청소 필요. 누전 차단기 동작 시험 양호.");
+        dto.setImages(images);
+        return dto;
+    }
+
+    /* 휴대폰 사진 크기(4000x3000)의 노이즈 이미지. 압축이 잘 되지 않아 실제 사진과 비슷한 비용이 든다 */
+    private List<String> createImages(int count) throws IOException {
+        Path imageDir = Files.createDirectories(storageRoot.resolve(StorageArea.INSPECTION_IMAGES.getDirectory()));
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            for (int y = 0; y < 3000; y += 50) {
+                for (int x = 0; x < 4000; x += 50) {
+                    g.setColor(new Color(random.nextInt(0xFFFFFF)));
+                    g.fillRect(x, y, 50, 50);
+                }
+            }
+            g.dispose();
+
+            String name = IMAGE_PREFIX + size + "-" + i + ".jpg";
+            ImageIO.write(image, "jpg", imageDir.resolve(name).toFile());
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -1,11 +1,26 @@
 package com.inspection;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class InspectionApplication {
     public static void main(String[] args) {
-        SpringApplication.run(InspectionApplication.class, args);
+        SpringApplication application = new SpringApplication(InspectionApplication.class);
+        // 명령행 가져오기(--import.file)는 실행 중인 서버 옆에서 돌 수 있도록 포트를 열지 않고,
+        // 서버가 잡고 있는 검색 색인도 열지 않는다 (가져온 뒤 서버에서 POST /api/search/rebuild)
+        // application.yml의 search.index.enabled보다 우선하도록 기본 속성이 아닌 명령행 인자로 끈다
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("--import.file="))) {
+            application.setWebApplicationType(WebApplicationType.NONE);
+            if (Arrays.stream(args).noneMatch(arg -> arg.startsWith("--search.index.enabled="))) {
+                args = Stream.concat(Arrays.stream(args), Stream.of("--search.index.enabled=false"))
+                    .toArray(String[]::new);
+            }
+        }
+        application.run(args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.inspection.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /* 일괄 내보내기용 PDF 렌더링 스레드 풀
+     * 요청 처리 스레드(Tomcat)와 분리하여 대량 작업이 일반 요청을 밀어내지 않도록 한다 */
+    @Bean(name = "pdfRenderExecutor")
+    public ThreadPoolTaskExecutor pdfRenderExecutor(
+        @Value("${pdf.export.worker-threads:2}") int workerThreads,
+        @Value("${pdf.export.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /* 업로드 이미지 파생본(축소 JPEG) 생성 스레드 풀
+     * 대기열이 가득 차면 버리고, 필요 시점에 지연 생성한다 */
+    @Bean(name = "imageDerivativeExecutor")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(
+        @Value("${image.derivative.worker-threads:2}") int workerThreads,
+        @Value("${image.derivative.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /* 비동기 PDF 생성 작업 스레드 풀
+     * 대기열이 가득 차면 거절하여 클라이언트가 나중에 다시 요청하도록 한다 */
+    @Bean(name = "pdfJobExecutor")
+    public ThreadPoolTaskExecutor pdfJobExecutor(
+        @Value("${pdf.job.worker-threads:2}") int workerThreads,
+        @Value("${pdf.job.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("pdf-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /* 업로드 파일 저장 스레드 풀 (여러 장 업로드를 동시에 기록)
+     * 대기열이 가득 차면 요청 스레드가 직접 쓴다 */
+    @Bean(name = "storageWriteExecutor")
+    public ThreadPoolTaskExecutor storageWriteExecutor(
+        @Value("${storage.write-threads:4}") int writeThreads,
+        @Value("${storage.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(writeThreads);
+        executor.setMaxPoolSize(writeThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("storage-write-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /* 검색 색인 스레드 (색인 쓰기와 재생성은 이 스레드 하나만)
+     * 변경은 SearchIndexService의 대기열에 쌓이므로 실행 요청은 하나만 대기시키고 나머지는 버린다 */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /* 업로드 파일 지연 삭제 스레드
+     * 커밋 직후 대기열 비우기 요청은 하나만 대기시키고 나머지는 버린다 (한 번 비울 때 모두 처리되므로) */
+    @Bean(name = "fileCleanupExecutor")
+    public ThreadPoolTaskExecutor fileCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,127 @@
+package com.inspection.config;
+
+import static com.inspection.report.ReportTemplate.field;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inspection.dto.FireSafetyInspectionDTO;
+import com.inspection.dto.InspectionDetailDTO;
+import com.inspection.dto.MeasurementDTO;
+import com.inspection.entity.InspectionMeasurement;
+import com.inspection.report.ReportTemplate;
+import com.inspection.storage.StorageArea;
+import com.inspection.util.MeasurementMapper;
+
+/* PDF 결과서 템플릿 정의 (시작 시 한 번 생성) */
+@Configuration
+public class ReportTemplateConfig {
+
+    // 첨부 이미지는 업로드 저장소(storage.local.root) 아래 영역 디렉터리에서 읽는다
+    private final String storageRoot;
+
+    public ReportTemplateConfig(@Value("${storage.local.root:uploads}") String storageRoot) {
+        this.storageRoot = storageRoot;
+    }
+
+    /* 전기설비 점검 결과서 */
+    @Bean
+    public ReportTemplate<InspectionDetailDTO> inspectionReportTemplate() {
+        return ReportTemplate.<InspectionDetailDTO>builder("전기설비 점검 결과서")
+            .fields("기본 정보",
+                field("업체명", InspectionDetailDTO::getCompanyName),
+                field("점검일", InspectionDetailDTO::getInspectionDate),
+                field("점검자", InspectionDetailDTO::getManagerName))
+            .columns("기본사항",
+                List.of(
+                    field("수전전압/용량", d -> String.format("%sV / %skW", d.getFaucetVoltage(), d.getFaucetCapacity())),
+                    field("발전전압/용량", d -> String.format("%sV / %skW", d.getGenerationVoltage(), d.getGenerationCapacity())),
+                    field("태양광", d -> d.getSolarCapacity() + "kW")),
+                List.of(
+                    field("계약용량", d -> d.getContractCapacity() + "kW"),
+                    field("점검종별", InspectionDetailDTO::getInspectionType),
+                    field("점검횟수", d -> d.getInspectionCount() + "회")))
+            .checklist("점검내역",
+                field("인입구 배선", InspectionDetailDTO::getWiringInlet),
+                field("배ㆍ분전반", InspectionDetailDTO::getDistributionPanel),
+                field("배선용 차단기", InspectionDetailDTO::getMoldedCaseBreaker),
+                field("누전 차단기", InspectionDetailDTO::getEarthLeakageBreaker),
+                field("개폐기", InspectionDetailDTO::getSwitchGear),
+                field("배선", InspectionDetailDTO::getWiring),
+                field("전동기", InspectionDetailDTO::getMotor),
+                field("전열설비", InspectionDetailDTO::getHeatingEquipment),
+                field("용접기", InspectionDetailDTO::getWelder),
+                field("콘덴서", InspectionDetailDTO::getCapacitor),
+                field("조명설비", InspectionDetailDTO::getLighting),
+                field("접지설비", InspectionDetailDTO::getGrounding),
+                field("구내 전선로", InspectionDetailDTO::getInternalWiring),
+                field("발전기", InspectionDetailDTO::getGenerator),
+                field("기타설비", InspectionDetailDTO::getOtherEquipment))
+            .table("측정개소", List.of("No.", "측정개소", "구분", "전압(V)", "전류(A)", "온도(℃)"),
+                d -> measurementRows(d.getMeasurements()))
+            .text("특이사항", InspectionDetailDTO::getSpecialNotes, "없음")
+            .images("첨부 이미지", directory(StorageArea.INSPECTION_IMAGES), InspectionDetailDTO::getImages)
+            .signatures("서명",
+                field("점검자 서명", InspectionDetailDTO::getSignatureId),
+                field("관리자 서명", InspectionDetailDTO::getManagerSignatureId))
+            .build();
+    }
+
+    /* 소방시설 점검 결과서 (설비별 상태는 서술형 텍스트) */
+    @Bean
+    public ReportTemplate<FireSafetyInspectionDTO> fireSafetyReportTemplate() {
+        return ReportTemplate.<FireSafetyInspectionDTO>builder("소방시설 점검 결과서")
+            .fields("기본 정보",
+                field("건물명", FireSafetyInspectionDTO::getBuildingName),
+                field("주소", FireSafetyInspectionDTO::getAddress),
+                field("건물등급", FireSafetyInspectionDTO::getBuildingGrade),
+                field("업체명", FireSafetyInspectionDTO::getCompanyName),
+                field("점검일", FireSafetyInspectionDTO::getInspectionDate),
+                field("점검자", FireSafetyInspectionDTO::getWriterName))
+            .fields("점검내역",
+                field("소화설비", FireSafetyInspectionDTO::getFireExtinguisherStatus),
+                field("경보설비", FireSafetyInspectionDTO::getFireAlarmStatus),
+                field("피난구조설비", FireSafetyInspectionDTO::getFireEvacuationStatus),
+                field("소화용수설비", FireSafetyInspectionDTO::getFireWaterStatus),
+                field("소화활동설비", FireSafetyInspectionDTO::getFireFightingStatus))
+            .text("기타 의견", FireSafetyInspectionDTO::getEtcComment, "없음")
+            .images("첨부 이미지", directory(StorageArea.FIRE_SAFETY_IMAGES), FireSafetyInspectionDTO::getAttachments)
+            .signatures("서명",
+                field("점검자 서명", FireSafetyInspectionDTO::getInspectorSignatureId),
+                field("관리자 서명", FireSafetyInspectionDTO::getManagerSignatureId))
+            .build();
+    }
+
+    private String directory(StorageArea area) {
+        return Paths.get(storageRoot, area.getDirectory()).toString();
+    }
+
+    /* 측정개소 -> 상별 표 행 (모든 개소를 한 표에) */
+    private static List<List<String>> measurementRows(List<MeasurementDTO> measurements) {
+        List<List<String>> rows = new ArrayList<>();
+        for (InspectionMeasurement m : MeasurementMapper.fromDTOs(measurements)) {
+            rows.add(Arrays.asList(
+                String.valueOf(m.getPointNo()),
+                m.getLocation(),
+                m.getPhase(),
+                format(m.getVoltage()),
+                format(m.getCurrent()),
+                format(m.getTemperature())));
+        }
+        return rows;
+    }
+
+    // 정수 값은 소수점 없이 표시 (220.0 -> 220)
+    private static String format(Double value) {
+        if (value == null) {
+            return null;
+        }
+        return value == Math.rint(value) ? String.valueOf(value.longValue()) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inspection.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/* @Scheduled 작업 활성화 (업로드 파일 지연 삭제 등) */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
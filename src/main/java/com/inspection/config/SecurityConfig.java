@@ -14,8 +14,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.inspection.security.JwtAuthenticationFilter;
 import com.inspection.security.JwtTokenProvider;
@@ -53,6 +51,18 @@ public class SecurityConfig {
             .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 관리자 전용 일괄 작업/통계 (@PreAuthorize는 메서드 보안을 켜지 않아 동작하지 않으므로
+                // 아래 /api/inspections/** permitAll보다 먼저 URL로 막는다)
+                .requestMatchers(
+                    "/api/inspections/import",
+                    "/api/inspections/export",
+                    "/api/inspections/export/**",
+                    "/api/inspections/analytics/**",
+                    "/api/inspections/pdf/cache-stats",
+                    "/api/inspections/detail-cache-stats",
+                    "/api/inspections/measurements/over-temperature",
+                    "/api/search/rebuild"
+                ).hasRole("ADMIN")
                 .requestMatchers(
                     "/api/auth/login",
                     "/api/auth/signup",
@@ -63,6 +73,8 @@ public class SecurityConfig {
                     "/api/notices/**",
                     "/api/inquiries/**",
                     "/uploads/**",
+                    "/pdf/**",
+                    "/api/signatures/**",
                     "/api/stt/**"
                 ).permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -92,25 +104,13 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3001"));
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
+        configuration.setExposedHeaders(Arrays.asList("Content-Disposition", "X-Export-Id", "ETag", "Last-Modified", "Upload-Offset"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
-
-    @Bean
-    public WebMvcConfigurer webMvcConfigurer() {
-        return new WebMvcConfigurer() {
-            @Override
-            public void addResourceHandlers(ResourceHandlerRegistry registry) {
-                registry.addResourceHandler("/uploads/**")
-                        .addResourceLocations("file:uploads/")
-                        .setCachePeriod(3600)
-                        .resourceChain(true);
-            }
-        };
-    }
 } 
\ No newline at end of file
@@ -1,28 +1,42 @@
 package com.inspection.config;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${pdf.job.output-dir:uploads/pdf}")
+    private String pdfJobOutputDir;
+
+    @Value("${pdf.job.retention-hours:24}")
+    private long pdfJobRetentionHours;
     
     /*CORS 설정*/
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:3001")
-                .allowedMethods("GET", "POST", "PUT", "DELETE")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE")
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
     /*파일 pdf 변환 관련 설정 */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 비동기 PDF 작업 결과물: 파일명에 작업 ID가 포함되어 내용이 바뀌지 않지만,
+        // PdfJobService가 보관 시간이 지나면 지우므로 캐시도 그 시간까지만
+        String location = pdfJobOutputDir.endsWith("/") ? pdfJobOutputDir : pdfJobOutputDir + "/";
         registry.addResourceHandler("/pdf/**")
-                .addResourceLocations("file:uploads/pdf/");
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+                .addResourceLocations("file:" + location)
+                .setCacheControl(CacheControl.maxAge(pdfJobRetentionHours, TimeUnit.HOURS).cachePrivate().immutable())
+                .resourceChain(true);
+        // 업로드 파일(/uploads/**)은 UploadedFileController가 제공한다
     }
 } 
\ No newline at end of file
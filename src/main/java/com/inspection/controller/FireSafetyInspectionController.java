@@ -6,23 +6,39 @@ import com.inspection.service.FireSafetyInspectionService;
 import com.inspection.dto.FireSafetyInspectionDTO;
 import com.inspection.dto.FireSafetyInspectionCreateDTO;
 import com.inspection.dto.FireSafetyInspectionUpdateDTO;
+import com.inspection.dto.CursorPageDTO;
+import com.inspection.dto.EntityVersionDTO;
+import com.inspection.dto.FireSafetyInspectionListDTO;
+import com.inspection.report.ReportType;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
+import com.inspection.service.ChunkedUploadService;
+import com.inspection.service.ImageDerivativeService;
+import com.inspection.service.PdfCacheService;
+import com.inspection.service.PdfService;
+import com.inspection.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import java.util.List;
+import java.time.LocalDate;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.UUID;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.Paths;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.ArrayList;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Map;
 import java.util.Set;
 import java.util.LinkedHashSet;
@@ -35,45 +51,74 @@ import java.util.LinkedHashSet;
 public class FireSafetyInspectionController {
     
     private final FireSafetyInspectionService fireSafetyInspectionService;
+    private final PdfService pdfService;
+    private final PdfCacheService pdfCacheService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final StorageService storageService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final UserService userService;
 
+    /* 최신 점검 목록 (최대 100건). 그보다 오래된 점검은 /scroll의 커서로 이어서 조회한다 */
     @GetMapping
-    public ResponseEntity<List<FireSafetyInspectionDTO>> getAllInspections() {
-        return ResponseEntity.ok(fireSafetyInspectionService.getAllInspections());
+    public ResponseEntity<List<FireSafetyInspectionDTO>> getAllInspections(
+        @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(fireSafetyInspectionService.getAllInspections(size));
+    }
+
+    /* 커서 기반 목록 (최신순). 응답의 nextCursor를 다음 요청의 cursor로 넘긴다 */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<FireSafetyInspectionListDTO>> scrollInspections(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(fireSafetyInspectionService.scrollInspections(cursor, size));
     }
 
+    /* 단일 점검 조회 (ETag 일치 시 DTO를 만들지 않고 304, 응답 ETag는 보내는 DTO의 버전) */
     @GetMapping("/{id}")
-    public ResponseEntity<FireSafetyInspectionDTO> getInspection(@PathVariable Long id) {
-        return ResponseEntity.ok(fireSafetyInspectionService.getInspectionById(id));
+    public ResponseEntity<FireSafetyInspectionDTO> getInspection(
+        @PathVariable Long id,
+        WebRequest request,
+        HttpServletResponse response
+    ) {
+        EntityVersionDTO version = fireSafetyInspectionService.getInspectionVersion(id);
+        if (request.checkNotModified(version.eTag("detail"), version.lastModifiedMillis())) {
+            return null;
+        }
+        FireSafetyInspectionDTO dto = fireSafetyInspectionService.getInspectionById(id);
+        setVersionHeaders(response, dto, "detail");
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(dto);
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> createInspection(
         @RequestPart("inspectionData") String inspectionDataStr,
-        @RequestPart(value = "images", required = false) List<MultipartFile> images
+        @RequestPart(value = "images", required = false) List<MultipartFile> images,
+        @AuthenticationPrincipal UserDetails userDetails
     ) {
         try {
             ObjectMapper mapper = new ObjectMapper();
             mapper.registerModule(new JavaTimeModule());
             FireSafetyInspectionCreateDTO inspectionData = mapper.readValue(inspectionDataStr, FireSafetyInspectionCreateDTO.class);
             
-            // 이미지 파일 저장 및 처리
-            List<String> savedImageNames = new ArrayList<>();
-            if (images != null && !images.isEmpty()) {
-                // uploads/fire-safety-images 디렉토리 생성
-                Path uploadPath = Paths.get("uploads/fire-safety-images");
-                if (!Files.exists(uploadPath)) {
-                    Files.createDirectories(uploadPath);
-                }
-                
-                for (MultipartFile image : images) {
-                    String fileName = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                    Path path = uploadPath.resolve(fileName);
-                    Files.copy(image.getInputStream(), path, StandardCopyOption.REPLACE_EXISTING);
-                    savedImageNames.add(fileName);
-                }
+            // 이어받기 업로드(/api/uploads)로 먼저 올린 파일의 저장소 키 (이 사용자가 완료한 업로드만)
+            chunkedUploadService.requireCompleted(userId(userDetails), StorageArea.FIRE_SAFETY_IMAGES,
+                inspectionData.getAttachments(), null);
+            Set<String> savedImageNames = new LinkedHashSet<>();
+            if (inspectionData.getAttachments() != null) {
+                savedImageNames.addAll(inspectionData.getAttachments());
+            }
+            
+            // 이미지 파일 저장 및 처리 (여러 장은 동시에 기록)
+            for (StorageKey key : storageService.store(StorageArea.FIRE_SAFETY_IMAGES, images)) {
+                imageDerivativeService.createDerivativesAsync(storageService.resolve(key));
+                savedImageNames.add(key.name());
             }
             
-            inspectionData.setAttachments(savedImageNames);  // toString() 제거
+            inspectionData.setAttachments(new ArrayList<>(savedImageNames));
             return ResponseEntity.ok(fireSafetyInspectionService.createInspection(inspectionData));
             
         } catch (IOException e) {
@@ -83,11 +128,52 @@ public class FireSafetyInspectionController {
         }
     }
 
+    /* 소방시설 점검 결과서 PDF 다운로드 (전기설비 결과서와 같은 캐시/스트리밍 방식) */
+    @GetMapping("/{id}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadPdf(
+        @PathVariable Long id,
+        WebRequest request,
+        HttpServletResponse httpResponse
+    ) {
+        EntityVersionDTO version = fireSafetyInspectionService.getInspectionVersion(id);
+        if (request.checkNotModified(version.eTag("pdf"), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        // 캐시 버전은 데이터를 읽기 전에 잡는다 (읽은 뒤 수정되면 렌더링 결과를 캐시하지 않음)
+        long cacheVersion = pdfCacheService.currentVersion(ReportType.FIRE_SAFETY, id);
+        // ETag는 결과서를 만드는 DTO의 버전으로 (없는 ID는 스트리밍 전에 404)
+        FireSafetyInspectionDTO data = fireSafetyInspectionService.getInspectionById(id);
+        setVersionHeaders(httpResponse, data, "pdf");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=" + ReportType.FIRE_SAFETY.fileName(id))
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.APPLICATION_PDF);
+
+        PdfCacheService.CachedPdf cached = pdfCacheService.lookup(ReportType.FIRE_SAFETY, id, cacheVersion);
+        if (cached != null) {
+            return response
+                .contentLength(cached.getLength())
+                .body(cached::writeTo);
+        }
+
+        return response.body(out ->
+            pdfCacheService.renderThrough(ReportType.FIRE_SAFETY, id, cacheVersion, out,
+                pdf -> pdfService.writeFireSafetyPdf(data, pdf)));
+    }
+
+    /* 업체별 점검 이력 (기간 from~to, 최신순 커서 목록) */
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<List<FireSafetyInspectionDTO>> getInspectionsByCompany(
-        @PathVariable Long companyId
+    public ResponseEntity<CursorPageDTO<FireSafetyInspectionListDTO>> getInspectionsByCompany(
+        @PathVariable Long companyId,
+        @RequestParam(defaultValue = "1000-01-01") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(defaultValue = "9999-12-31") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
     ) {
-        return ResponseEntity.ok(fireSafetyInspectionService.getInspectionsByCompany(companyId));
+        return ResponseEntity.ok(fireSafetyInspectionService.getInspectionsByCompany(companyId, from, to, cursor, size));
     }
 
     @GetMapping("/writer/{userId}")
@@ -107,13 +193,18 @@ public class FireSafetyInspectionController {
     public ResponseEntity<?> updateInspection(
         @PathVariable Long id,
         @RequestPart("inspectionData") String inspectionDataStr,
-        @RequestPart(value = "images", required = false) List<MultipartFile> newImages
+        @RequestPart(value = "images", required = false) List<MultipartFile> newImages,
+        @AuthenticationPrincipal UserDetails userDetails
     ) {
         try {
             ObjectMapper mapper = new ObjectMapper();
             mapper.registerModule(new JavaTimeModule());
             FireSafetyInspectionUpdateDTO inspectionData = mapper.readValue(inspectionDataStr, FireSafetyInspectionUpdateDTO.class);
             
+            // 기존 첨부가 아닌 파일명은 이 사용자가 완료한 이어받기 업로드만
+            chunkedUploadService.requireCompleted(userId(userDetails), StorageArea.FIRE_SAFETY_IMAGES,
+                inspectionData.getAttachments(), fireSafetyInspectionService.getAttachmentNames(id));
+            
             // LinkedHashSet을 사용하여 중복 제거하면서 순서 유지
             Set<String> uniqueImages = new LinkedHashSet<>();
             
@@ -123,21 +214,9 @@ public class FireSafetyInspectionController {
             }
             
             // 새 이미지 처리
-            if (newImages != null && !newImages.isEmpty()) {
-                Path uploadPath = Paths.get("uploads/fire-safety-images");
-                if (!Files.exists(uploadPath)) {
-                    Files.createDirectories(uploadPath);
-                }
-                
-                for (MultipartFile image : newImages) {
-                    String fileName = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                    Path path = uploadPath.resolve(fileName);
-                    
-                    if (!Files.exists(path)) {
-                        Files.copy(image.getInputStream(), path, StandardCopyOption.REPLACE_EXISTING);
-                        uniqueImages.add(fileName);
-                    }
-                }
+            for (StorageKey key : storageService.store(StorageArea.FIRE_SAFETY_IMAGES, newImages)) {
+                imageDerivativeService.createDerivativesAsync(storageService.resolve(key));
+                uniqueImages.add(key.name());
             }
             
             inspectionData.setAttachments(new ArrayList<>(uniqueImages));
@@ -151,6 +230,20 @@ public class FireSafetyInspectionController {
         }
     }
 
+    /* checkNotModified가 먼저 쓴 ETag/Last-Modified를 보내는 DTO의 버전으로 교체 */
+    private static void setVersionHeaders(HttpServletResponse response, FireSafetyInspectionDTO dto,
+                                          String representation) {
+        EntityVersionDTO sent = new EntityVersionDTO(dto.getVersion(), dto.getLastModifiedAt());
+        response.setHeader(HttpHeaders.ETAG, sent.eTag(representation));
+        if (sent.lastModifiedMillis() >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, sent.lastModifiedMillis());
+        }
+    }
+
+    private Long userId(UserDetails userDetails) {
+        return userDetails == null ? null : userService.getCurrentUser(userDetails.getUsername()).getUserId();
+    }
+
     @PostMapping("/{id}/manager-signature")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<FireSafetyInspectionDTO> saveManagerSignature(
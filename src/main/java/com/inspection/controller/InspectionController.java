@@ -1,25 +1,26 @@
 package com.inspection.controller;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.Set;
 import java.util.LinkedHashSet;
 
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,26 +28,55 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inspection.dto.CacheStatsDTO;
+import com.inspection.dto.CursorPageDTO;
+import com.inspection.dto.DefectRateDTO;
+import com.inspection.dto.EntityVersionDTO;
+import com.inspection.dto.ImportResultDTO;
 import com.inspection.dto.InspectionBoardDTO;
 import com.inspection.dto.InspectionCreateDTO;
 import com.inspection.dto.InspectionDetailDTO;
 import com.inspection.dto.InspectionListDTO;
+import com.inspection.dto.MeasurementAlertDTO;
+import com.inspection.dto.PdfExportProgressDTO;
+import com.inspection.dto.PdfJobDTO;
 import com.inspection.exception.InspectionNotFoundException;
+import com.inspection.exception.InvalidMeasurementException;
+import com.inspection.exception.InvalidUploadException;
+import com.inspection.exception.PreconditionRequiredException;
+import com.inspection.service.ChecklistSummaryService;
+import com.inspection.service.ChunkedUploadService;
+import com.inspection.service.ImageDerivativeService;
 import com.inspection.service.InspectionService;
+import com.inspection.service.InspectionDetailCacheService;
+import com.inspection.service.InspectionImportService;
+import com.inspection.service.PdfCacheService;
+import com.inspection.service.PdfExportService;
+import com.inspection.service.PdfJobService;
 import com.inspection.service.PdfService;
 import com.inspection.service.UserService;
 import com.inspection.entity.User;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,6 +89,15 @@ public class InspectionController {
     private final InspectionService inspectionService;
     private final PdfService pdfService;
     private final UserService userService;
+    private final PdfCacheService pdfCacheService;
+    private final InspectionDetailCacheService detailCacheService;
+    private final InspectionImportService inspectionImportService;
+    private final PdfExportService pdfExportService;
+    private final PdfJobService pdfJobService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ChecklistSummaryService checklistSummaryService;
+    private final StorageService storageService;
+    private final ChunkedUploadService chunkedUploadService;
     
     /* 점검 내용 저장 */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -75,24 +114,21 @@ public class InspectionController {
             User user = userService.getCurrentUser(userDetails.getUsername());
             inspectionData.setUserId(user.getUserId());
             
-            // 이미지 파일 저장 및 처리
-            List<String> savedImageNames = new ArrayList<>();
-            if (images != null && !images.isEmpty()) {
-                // uploads/images 디렉토리가 존재하는지 확인하고 없으면 생성
-                Path uploadPath = Paths.get("uploads/images");
-                if (!Files.exists(uploadPath)) {
-                    Files.createDirectories(uploadPath);
-                }
-                
-                for (MultipartFile image : images) {
-                    String fileName = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                    Path path = uploadPath.resolve(fileName);
-                    Files.copy(image.getInputStream(), path, StandardCopyOption.REPLACE_EXISTING);
-                    savedImageNames.add(fileName);
-                }
+            // 이어받기 업로드(/api/uploads)로 먼저 올린 파일의 저장소 키 (이 사용자가 완료한 업로드만)
+            chunkedUploadService.requireCompleted(user.getUserId(), StorageArea.INSPECTION_IMAGES,
+                inspectionData.getImages(), null);
+            Set<String> savedImageNames = new LinkedHashSet<>();
+            if (inspectionData.getImages() != null) {
+                savedImageNames.addAll(inspectionData.getImages());
+            }
+            
+            // 이미지 파일 저장 및 처리 (여러 장은 동시에 기록)
+            for (StorageKey key : storageService.store(StorageArea.INSPECTION_IMAGES, images)) {
+                imageDerivativeService.createDerivativesAsync(storageService.resolve(key));
+                savedImageNames.add(key.name());
             }
             
-            inspectionData.setImages(savedImageNames);
+            inspectionData.setImages(new ArrayList<>(savedImageNames));
             Long inspectionId = inspectionService.createInspection(inspectionData);
             return ResponseEntity.ok(inspectionId);
         } catch (IOException e) {
@@ -103,6 +139,8 @@ public class InspectionController {
             log.error("점검 기록을 찾을 수 없음: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(e.getMessage());
+        } catch (InvalidUploadException | InvalidMeasurementException e) {
+            throw e;    // 400 (GlobalExceptionHandler)
         } catch (RuntimeException e) {
             log.error("점검 데이터 저장 중 서버 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -117,12 +155,35 @@ public class InspectionController {
         return ResponseEntity.ok(inspections);
     }
 
-    /* 점검 내용 상세조회 */
+    /* 점검 내용 조회 (커서 기반, 최신순)
+     * 응답의 nextCursor를 다음 요청의 cursor로 넘긴다 */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<InspectionBoardDTO>> scrollInspections(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(inspectionService.scrollInspections(cursor, size));
+    }
+
+    /* 점검 내용 상세조회
+     * If-None-Match는 version 컬럼만 조회해 비교하고, 일치하면 DTO를 만들지 않고 304로 응답.
+     * 응답의 ETag/Last-Modified는 그 사이 수정되었을 수 있으므로 실제로 보내는 DTO의 버전으로 다시 쓴다 */
     @GetMapping("/{id}/detail")
-    public ResponseEntity<InspectionDetailDTO> getInspectionDetail(@PathVariable Long id) {
+    public ResponseEntity<InspectionDetailDTO> getInspectionDetail(
+        @PathVariable Long id,
+        WebRequest request,
+        HttpServletResponse response
+    ) {
         try {
+            EntityVersionDTO version = inspectionService.getInspectionVersion(id);
+            if (request.checkNotModified(version.eTag("detail"), version.lastModifiedMillis())) {
+                return null;
+            }
             InspectionDetailDTO detailDTO = inspectionService.getInspectionDetail(id);
-            return ResponseEntity.ok(detailDTO);
+            setVersionHeaders(response, detailDTO, "detail");
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(detailDTO);
         } catch (InspectionNotFoundException e) {
             throw e;
         }
@@ -156,10 +217,26 @@ public class InspectionController {
     //     }
     // }
 
+    /* 업체별 점검 이력 (기간 from~to, 최신순 커서 목록) */
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<List<InspectionListDTO>> getInspectionsByCompany(@PathVariable Long companyId) {
-        List<InspectionListDTO> inspections = inspectionService.getInspectionsByCompany(companyId);
-        return ResponseEntity.ok(inspections);
+    public ResponseEntity<CursorPageDTO<InspectionListDTO>> getInspectionsByCompany(
+        @PathVariable Long companyId,
+        @RequestParam(defaultValue = "1000-01-01") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(defaultValue = "9999-12-31") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(inspectionService.getInspectionsByCompany(companyId, from, to, cursor, size));
+    }
+
+    /* 기준 온도 이상 측정개소 조회 */
+    @GetMapping("/measurements/over-temperature")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<MeasurementAlertDTO>> getOverTemperatureMeasurements(
+        @RequestParam(defaultValue = "60") double threshold,
+        @RequestParam(required = false) Long companyId
+    ) {
+        return ResponseEntity.ok(inspectionService.getOverTemperatureMeasurements(threshold, companyId));
     }
 
     @PostMapping("/{id}/manager-signature")
@@ -172,34 +249,192 @@ public class InspectionController {
         return inspectionService.saveManagerSignature(id, signature);
     }
 
+    /* 점검 결과서 PDF 다운로드
+     * If-None-Match가 현재 버전과 같으면 렌더링/캐시 조회 없이 304.
+     * 캐시 적중 시 Content-Length와 함께 그대로 전송하고,
+     * 미적중 시 응답 스트림에 바로 렌더링한다 (chunked). */
     @GetMapping("/{id}/pdf")
-    public ResponseEntity<Resource> downloadPdf(@PathVariable Long id) {
-        try {
-            byte[] pdfBytes = pdfService.generateInspectionPdf(id);
-            ByteArrayResource resource = new ByteArrayResource(pdfBytes);
-            
-            return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, 
-                    "attachment; filename=inspection_" + id + ".pdf")
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(resource);
-        } catch (Exception e) {
-            throw new RuntimeException("PDF 다운로드 중 오류 발생", e);
+    public ResponseEntity<StreamingResponseBody> downloadPdf(
+        @PathVariable Long id,
+        WebRequest request,
+        HttpServletResponse httpResponse
+    ) {
+        EntityVersionDTO version = inspectionService.getInspectionVersion(id);
+        if (request.checkNotModified(version.eTag("pdf"), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        // 캐시 버전은 데이터를 읽기 전에 잡는다 (읽은 뒤 수정되면 렌더링 결과를 캐시하지 않음)
+        long cacheVersion = pdfCacheService.currentVersion(id);
+        // ETag는 결과서를 만드는 DTO의 버전으로 (없는 ID는 스트리밍 전에 404)
+        InspectionDetailDTO data = inspectionService.getInspectionDetail(id);
+        setVersionHeaders(httpResponse, data, "pdf");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, 
+                "attachment; filename=inspection_" + id + ".pdf")
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.APPLICATION_PDF);
+
+        PdfCacheService.CachedPdf cached = pdfCacheService.lookup(id, cacheVersion);
+        if (cached != null) {
+            return response
+                .contentLength(cached.getLength())
+                .body(cached::writeTo);
+        }
+
+        return response.body(out -> 
+            pdfCacheService.renderThrough(id, cacheVersion, out, pdf -> pdfService.writeInspectionPdf(data, pdf)));
+    }
+
+    /* PDF 비동기 생성 요청 (작업 ID 반환) */
+    @PostMapping("/{id}/pdf/jobs")
+    public ResponseEntity<PdfJobDTO> submitPdfJob(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(pdfJobService.submit(id));
+    }
+
+    /* PDF 생성 작업 상태 조회 (완료 시 url 포함) */
+    @GetMapping("/pdf/jobs/{jobId}")
+    public ResponseEntity<PdfJobDTO> getPdfJob(@PathVariable String jobId) {
+        PdfJobDTO job = pdfJobService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+
+    /* 업체별 기간 점검 결과서 일괄 다운로드 (ZIP)
+     * 진행 상황은 X-Export-Id 헤더의 ID로 조회할 수 있다 */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportPdfs(
+        @RequestParam Long companyId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        HttpServletResponse response
+    ) throws IOException {
+        pdfExportService.export(companyId, startDate, endDate, export -> {
+            response.setContentType("application/zip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, 
+                "attachment; filename=inspections_" + companyId + "_" + startDate + "_" + endDate + ".zip");
+            response.setHeader("X-Export-Id", export.getExportId());
+            return response.getOutputStream();
+        });
+    }
+
+    /* 일괄 다운로드 진행 상황 조회 */
+    @GetMapping("/export/{exportId}/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PdfExportProgressDTO> getExportProgress(@PathVariable String exportId) {
+        PdfExportProgressDTO progress = pdfExportService.getProgress(exportId);
+        if (progress == null) {
+            return ResponseEntity.notFound().build();
         }
+        return ResponseEntity.ok(progress);
+    }
+
+    /* PDF 캐시 적중률 조회 */
+    @GetMapping("/pdf/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getPdfCacheStats() {
+        return ResponseEntity.ok(pdfCacheService.getStats());
     }
 
+    /* 점검 상세 캐시 적중률 조회 */
+    @GetMapping("/detail-cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getDetailCacheStats() {
+        return ResponseEntity.ok(detailCacheService.getStats());
+    }
+
+    /* 점검내역 불량률 (불량 / (적합 + 불량), 해당없음 제외)
+     * groupBy: COMPANY | MONTH | ITEM, 기간은 yyyy-MM (기본 최근 12개월) */
+    @GetMapping("/analytics/defects")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<DefectRateDTO>> getDefectRates(
+            @RequestParam(defaultValue = "COMPANY") ChecklistSummaryService.GroupBy groupBy,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) Long companyId) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        return ResponseEntity.ok(checklistSummaryService.getDefectRates(groupBy, start, end, companyId));
+    }
+
+    /* 불량률 집계표를 점검 테이블에서 다시 생성 */
+    @PostMapping("/analytics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildDefectSummary() {
+        checklistSummaryService.rebuild();
+        return ResponseEntity.ok().build();
+    }
+
+    /* 기존 점검 일괄 가져오기 (본문을 스트리밍으로 읽음)
+     * Content-Type이 text/csv면 CSV(첫 행은 필드명), 그 외는 NDJSON(한 줄에 점검 하나).
+     * 중단되면 같은 importId로 같은 파일을 다시 보내면 커밋된 레코드 이후부터 이어서 저장한다. */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDTO> importInspections(
+        @RequestParam String importId,
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        HttpServletRequest request
+    ) throws IOException {
+        InspectionImportService.Format format = contentType.startsWith("text/csv")
+            ? InspectionImportService.Format.CSV
+            : InspectionImportService.Format.NDJSON;
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(inspectionImportService.importInspections(importId, format, reader));
+        }
+    }
+
+    /* 점검 부분 수정
+     * 본문(JSON)에 있는 필드만 바꾼다. 버전은 If-Match(상세 조회의 ETag) 또는 본문의 version으로 전달 */
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<InspectionDetailDTO> patchInspection(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Map<String, Object> changes,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        Long expectedVersion = EntityVersionDTO.parseETagVersion(ifMatch);
+        if (expectedVersion == null && changes.get("version") != null) {
+            expectedVersion = EntityVersionDTO.parseETagVersion(changes.get("version").toString());
+        }
+        if (expectedVersion == null) {
+            throw new PreconditionRequiredException();
+        }
+
+        if (changes.get("images") instanceof List<?> images) {
+            List<String> names = new ArrayList<>();
+            for (Object image : images) {
+                names.add(String.valueOf(image));
+            }
+            chunkedUploadService.requireCompleted(userId(userDetails), StorageArea.INSPECTION_IMAGES,
+                names, inspectionService.getImageNames(id));
+        }
+
+        InspectionDetailDTO patched = inspectionService.patchInspection(id, expectedVersion, changes);
+        return ResponseEntity.ok()
+            .eTag(new EntityVersionDTO(patched.getVersion(), patched.getLastModifiedAt()).eTag("detail"))
+            .body(patched);
+    }
 
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateInspection(
         @PathVariable Long id,
         @RequestPart("inspectionData") String inspectionDataStr,
-        @RequestPart(value = "images", required = false) List<MultipartFile> newImages
+        @RequestPart(value = "images", required = false) List<MultipartFile> newImages,
+        @AuthenticationPrincipal UserDetails userDetails
     ) {
         try {
             ObjectMapper mapper = new ObjectMapper();
             mapper.registerModule(new JavaTimeModule());
             InspectionCreateDTO inspectionData = mapper.readValue(inspectionDataStr, InspectionCreateDTO.class);
             
+            // 기존 이미지가 아닌 파일명은 이 사용자가 완료한 이어받기 업로드만
+            chunkedUploadService.requireCompleted(userId(userDetails), StorageArea.INSPECTION_IMAGES,
+                inspectionData.getImages(), inspectionService.getImageNames(id));
+            
             // LinkedHashSet을 사용하여 중복 제거하면서 순서 유지
             Set<String> uniqueImages = new LinkedHashSet<>();
             
@@ -209,22 +444,9 @@ public class InspectionController {
             }
             
             // 새 이미지 처리
-            if (newImages != null && !newImages.isEmpty()) {
-                Path uploadPath = Paths.get("uploads/images");
-                if (!Files.exists(uploadPath)) {
-                    Files.createDirectories(uploadPath);
-                }
-                
-                for (MultipartFile image : newImages) {
-                    String fileName = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-                    Path path = uploadPath.resolve(fileName);
-                    
-                    // 파일이 이미 존재하는지 확인
-                    if (!Files.exists(path)) {
-                        Files.copy(image.getInputStream(), path, StandardCopyOption.REPLACE_EXISTING);
-                        uniqueImages.add(fileName);
-                    }
-                }
+            for (StorageKey key : storageService.store(StorageArea.INSPECTION_IMAGES, newImages)) {
+                imageDerivativeService.createDerivativesAsync(storageService.resolve(key));
+                uniqueImages.add(key.name());
             }
             
             // 중복이 제거된 이미지 목록을 다시 리스트로 변환
@@ -243,6 +465,10 @@ public class InspectionController {
             log.error("점검 기록을 찾을 수 없음: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw e;    // 동시 수정은 409 (GlobalExceptionHandler)
+        } catch (InvalidUploadException | InvalidMeasurementException e) {
+            throw e;    // 400 (GlobalExceptionHandler)
         } catch (RuntimeException e) {
             log.error("점검 데이터 수정 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -250,6 +476,20 @@ public class InspectionController {
         }
     }
 
+    /* checkNotModified가 먼저 쓴 ETag/Last-Modified를 보내는 DTO의 버전으로 교체 */
+    private static void setVersionHeaders(HttpServletResponse response, InspectionDetailDTO dto, String representation) {
+        EntityVersionDTO sent = new EntityVersionDTO(dto.getVersion(), dto.getLastModifiedAt());
+        response.setHeader(HttpHeaders.ETAG, sent.eTag(representation));
+        if (sent.lastModifiedMillis() >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, sent.lastModifiedMillis());
+        }
+    }
+
+    /* 로그인한 사용자 ID (수정 API는 비로그인 요청도 받으므로 없으면 null) */
+    private Long userId(UserDetails userDetails) {
+        return userDetails == null ? null : userService.getCurrentUser(userDetails.getUsername()).getUserId();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")  // 관리자만 삭제 가능
     public ResponseEntity<?> deleteInspection(@PathVariable Long id) {
@@ -0,0 +1,42 @@
+package com.inspection.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inspection.dto.SearchResultDTO;
+import com.inspection.report.ReportType;
+import com.inspection.service.SearchIndexService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    /* 점검 특이사항 / 소방 점검 의견 전문 검색 (관련도순)
+     * type: INSPECTION | FIRE_SAFETY (없으면 전체), page는 0부터 */
+    @GetMapping
+    public ResponseEntity<SearchResultDTO> search(
+            @RequestParam String q,
+            @RequestParam(required = false) ReportType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchIndexService.search(q, type, page, size));
+    }
+
+    /* 검색 색인을 DB에서 다시 생성 (색인 스레드에서 진행하므로 바로 202, 결과는 서버 로그) */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuild() {
+        searchIndexService.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
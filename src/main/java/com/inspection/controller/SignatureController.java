@@ -0,0 +1,52 @@
+package com.inspection.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inspection.entity.Signature;
+import com.inspection.service.SignatureService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/signatures")
+@RequiredArgsConstructor
+public class SignatureController {
+
+    private final SignatureService signatureService;
+
+    /* 서명 이미지 조회
+     * 키가 내용의 해시이므로 내용이 바뀌지 않는다: 1년 immutable 캐시, If-None-Match 일치 시 DB 조회 없이 304
+     * Content-Type은 저장된 값이 아니라 바이트로 다시 판별하며, PNG/JPEG가 아니면 내보내지 않는다 */
+    @GetMapping("/{signatureId}")
+    public ResponseEntity<byte[]> getSignature(@PathVariable String signatureId, WebRequest request,
+                                               HttpServletResponse response) {
+        response.setHeader("X-Content-Type-Options", "nosniff");    // 304/404 포함 모든 응답
+        if (!SignatureService.isSignatureId(signatureId)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified("\"" + signatureId + "\"")) {
+            return null;
+        }
+
+        Signature signature = signatureService.find(signatureId).orElse(null);
+        String contentType = signature != null ? SignatureService.imageType(signature.getData()) : null;
+        if (contentType == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+            .eTag(signatureId)
+            .contentType(MediaType.parseMediaType(contentType))
+            .body(signature.getData());
+    }
+}
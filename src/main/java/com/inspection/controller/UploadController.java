@@ -0,0 +1,87 @@
+package com.inspection.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inspection.dto.UploadSessionDTO;
+import com.inspection.service.ChunkedUploadService;
+import com.inspection.service.UserService;
+import com.inspection.storage.StorageArea;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/* 이어받기(chunked) 업로드
+ * 1) POST /api/uploads?area=INSPECTION_IMAGES&fileName=a.jpg&size=12345 -> uploadId
+ * 2) PUT /api/uploads/{uploadId}?offset=N (본문: application/octet-stream 조각) -> 다음 offset
+ *    끊기면 GET /api/uploads/{uploadId} 의 offset(또는 409 응답의 Upload-Offset)부터 다시 보낸다
+ * 3) POST /api/uploads/{uploadId}/complete -> storageKey를 점검 생성/수정 DTO의 images(소방은 attachments)에 넣는다 */
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final UserService userService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDTO> start(
+            @RequestParam StorageArea area,
+            @RequestParam String fileName,
+            @RequestParam long size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(chunkedUploadService.start(userId(userDetails), area, fileName, size));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDTO> getStatus(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(userId(userDetails), uploadId));
+    }
+
+    /* 요청 본문을 그대로 조각 파일에 스트리밍 (multipart 크기 제한과 무관) */
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<UploadSessionDTO> writeChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        UploadSessionDTO status = chunkedUploadService.writeChunk(userId(userDetails), uploadId, offset,
+            request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok()
+            .header("Upload-Offset", String.valueOf(status.getOffset()))
+            .body(status);
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<UploadSessionDTO> complete(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.complete(userId(userDetails), uploadId));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancel(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        chunkedUploadService.cancel(userId(userDetails), uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private Long userId(UserDetails userDetails) {
+        return userService.getCurrentUser(userDetails.getUsername()).getUserId();
+    }
+}
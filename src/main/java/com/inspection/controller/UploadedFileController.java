@@ -0,0 +1,222 @@
+package com.inspection.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.inspection.service.ImageDerivativeService;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/* 업로드 파일 제공 (/uploads/**)
+ * 저장소 파일명은 내용의 해시(이전 파일은 UUID)라 한 번 저장되면 바뀌지 않으므로 immutable 장기 캐시와 강한 ETag를 보낸다.
+ * If-None-Match/If-Modified-Since는 304, Range(단일 구간)는 206으로 응답해 큰 파일을 이어받을 수 있다.
+ * Tomcat sendfile을 쓸 수 있으면 파일을 커널에서 바로 소켓으로 보내고, 아니면 FileChannel.transferTo로 보낸다.
+ * ?variant=thumb|medium 이면 축소본 (없으면 이 요청에서 생성, 이미지가 아니면 원본).
+ * 축소본은 파생본을 만드는 영역(점검/소방 이미지)의 원본에만 만들고, 파생본 파일에 대한 요청은 400으로 거절한다 */
+@RestController
+@RequiredArgsConstructor
+public class UploadedFileController {
+
+    // Tomcat이 지원 여부를 알려 주고, 서블릿이 보낼 파일과 구간을 넘기는 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern CONTENT_NAME = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,10})?");
+    private static final Pattern BYTE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    // 브라우저에서 바로 보여 줄 형식 (확장자는 업로드한 쪽이 정하므로 스크립트를 담을 수 있는 svg/html 등은 제외)
+    private static final Set<MediaType> INLINE_TYPES = Set.of(
+        MediaType.IMAGE_JPEG, MediaType.IMAGE_PNG, MediaType.IMAGE_GIF,
+        MediaType.parseMediaType("image/webp"), MediaType.parseMediaType("image/bmp"));
+
+    @Value("${storage.serve.max-age-days:365}")
+    private long maxAgeDays;
+
+    @Value("${storage.serve.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @RequestMapping(value = "/uploads/{*path}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String path,
+                      @RequestParam(required = false) String variant,
+                      WebRequest webRequest,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        Path file = storageService.resolvePublic(path);
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        ImageDerivativeService.Variant size = ImageDerivativeService.Variant.fromSuffix(variant);
+        if (size != null) {
+            if (ImageDerivativeService.isDerivative(file)) {
+                // 파생본의 파생본을 계속 만들게 하면 추적되지 않는 파일이 쌓인다
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+                return;
+            }
+            if (hasDerivatives(path)) {
+                file = imageDerivativeService.resolve(file, size);
+            }
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = etag(file, attributes);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+            CacheControl.maxAge(maxAgeDays, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // ETag, Last-Modified를 붙이고 조건이 맞으면 304
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return;
+        }
+        MediaType contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (INLINE_TYPES.contains(contentType)) {
+            response.setContentType(contentType.toString());
+        } else {
+            // 그 밖의 파일은 API 출처에서 문서로 열리지 않도록 내려받기로만
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length;      // 끝 위치는 포함하지 않음
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            long[] requested = parseRange(range, length);
+            if (requested != null && requested.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (requested != null) {
+                start = requested[0];
+                end = requested[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (end - 1) + "/" + length);
+            }
+        }
+        response.setContentLengthLong(end - start);
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        send(request, response, file, start, end);
+    }
+
+    /* 파생본을 만드는 영역 디렉터리 바로 아래의 파일인지 (/images/abc.jpg). 그 밖의 파일은 variant를 무시하고 원본 */
+    private static boolean hasDerivatives(String path) {
+        String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        return segments.length == 2 && StorageArea.hasDerivatives(segments[0]);
+    }
+
+    private void send(HttpServletRequest request, HttpServletResponse response,
+                      Path file, long start, long end) throws IOException {
+        if (end - start >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문을 쓰지 않고 속성만 넘기면 Tomcat이 응답을 보낼 때 sendfile로 전송한다 (경로는 정규 경로여야 함)
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    /* 강한 ETag: 내용 주소 파일은 해시 그대로, 그 밖의 파일(이전 UUID 이름, 파생본)은 크기와 수정 시각 */
+    private static String etag(Path file, BasicFileAttributes attributes) {
+        Matcher matcher = CONTENT_NAME.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+            return "\"" + matcher.group(1) + "\"";
+        }
+        return "\"" + Long.toHexString(attributes.size()) + "-"
+            + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    /* If-Range가 없거나 현재 파일과 같을 때만 Range를 따른다 (다르면 전체를 보낸다) */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);    // 강한 비교
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /* 단일 구간 Range -> {시작, 끝(미포함)}. 만족할 수 없으면 빈 배열, 형식이 다르거나 여러 구간이면 null(전체 전송) */
+    private static long[] parseRange(String range, long length) {
+        Matcher matcher = BYTE_RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);     // 마지막 N바이트
+                if (suffix == 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length : Math.min(Long.parseLong(last) + 1, length);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                return null;
+            }
+            if (start >= length) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;    // 범위를 넘는 숫자
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.inspection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+    private String cacheName;     // 캐시 이름
+    private long hitCount;        // 적중 횟수
+    private long missCount;       // 미적중 횟수
+    private long evictionCount;   // 용량 초과(또는 만료)로 제거된 항목 수
+    private long entryCount;      // 현재 항목 수
+    private long sizeBytes;       // 현재 사용 중인 용량 (바이트)
+
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inspection.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 커서 기반 목록 응답. nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회한다 (마지막이면 null) */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /* size + 1 건을 조회한 결과로 다음 페이지 여부를 판단 */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,49 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+
+import com.inspection.entity.ChecklistItem;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 점검내역 불량률 (업체별 / 월별 / 항목별 중 하나로 묶은 값) */
+@Getter @Setter
+@NoArgsConstructor
+public class DefectRateDTO {
+    private Long companyId;         // 업체별일 때
+    private String companyName;
+    private LocalDate month;        // 월별일 때 (해당 월 1일)
+    private String item;            // 항목별일 때 (ChecklistItem 이름)
+    private String itemLabel;
+    private long inspectedCount;    // 적합 + 부적합 (해당없음/미입력 제외)
+    private long failCount;         // 부적합
+
+    // 업체별
+    public DefectRateDTO(Long companyId, String companyName, Long inspectedCount, Long failCount) {
+        this.companyId = companyId;
+        this.companyName = companyName;
+        this.inspectedCount = inspectedCount;
+        this.failCount = failCount;
+    }
+
+    // 월별
+    public DefectRateDTO(LocalDate month, Long inspectedCount, Long failCount) {
+        this.month = month;
+        this.inspectedCount = inspectedCount;
+        this.failCount = failCount;
+    }
+
+    // 항목별
+    public DefectRateDTO(ChecklistItem item, Long inspectedCount, Long failCount) {
+        this.item = item.name();
+        this.itemLabel = item.getLabel();
+        this.inspectedCount = inspectedCount;
+        this.failCount = failCount;
+    }
+
+    public double getDefectRate() {
+        return inspectedCount == 0 ? 0.0 : (double) failCount / inspectedCount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.inspection.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 조건부 요청(If-None-Match / If-Modified-Since) 확인용 버전 정보
+ * 전체 DTO를 만들지 않고 version, 수정 시각 두 컬럼만 조회한다. */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityVersionDTO {
+    private Long version;                  // @Version 값 (수정될 때마다 증가)
+    private LocalDateTime lastModifiedAt;  // 마지막 수정 시각 (기존 데이터는 null)
+
+    /* 표현(상세 JSON, PDF 등)별로 구분되는 strong ETag */
+    public String eTag(String representation) {
+        return "\"" + representation + "-v" + version + "\"";
+    }
+
+    /* If-Match 값에서 버전 추출. "detail-v3", W/"pdf-v3", "3" 형식을 받으며 해석할 수 없으면 null */
+    public static Long parseETagVersion(String eTag) {
+        if (eTag == null) {
+            return null;
+        }
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        int marker = value.lastIndexOf("-v");
+        if (marker >= 0) {
+            value = value.substring(marker + 2);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /* Last-Modified 값 (epoch millis, 없으면 -1) */
+    public long lastModifiedMillis() {
+        return lastModifiedAt != null
+            ? lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
+    }
+}
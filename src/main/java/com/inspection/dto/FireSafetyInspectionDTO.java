@@ -1,6 +1,7 @@
 package com.inspection.dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,8 +24,10 @@ public class FireSafetyInspectionDTO {
     private String fireFightingStatus;
     
     private String etcComment;
-    private String inspectorSignature;
+    private String inspectorSignature;  // 서명 이미지 URL (/api/signatures/{id})
     private String managerSignature;
+    private String inspectorSignatureId;
+    private String managerSignatureId;
     private List<String> attachments;
     
     // 추가 정보 (조회시에만 사용)
@@ -32,4 +35,6 @@ public class FireSafetyInspectionDTO {
     private String companyName;
     private LocalDate createdAt;
     private LocalDate updatedAt;
+    private Long version;                  // 수정될 때마다 증가
+    private LocalDateTime lastModifiedAt;  // 마지막 수정 시각
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FireSafetyInspectionListDTO {
+    private Long fireInspectionId;  // 점검 아이디
+    private String buildingName;    // 건물명
+    private LocalDate inspectionDate; // 점검일
+    private String companyName;     // 업체명
+    private String writerName;      // 작성자명
+}
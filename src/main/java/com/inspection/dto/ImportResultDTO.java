@@ -0,0 +1,20 @@
+package com.inspection.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class ImportResultDTO {
+    private String importId;
+    private String status;              // COMPLETED, FAILED
+    private long resumedFromRecord;     // 이번 실행 전에 이미 커밋되어 있던 레코드 수
+    private long processedCount;        // 이번 실행에서 읽은 레코드 수
+    private long importedCount;         // 누적 저장 건수
+    private long skippedCount;          // 누적 건너뛴 건수
+    private long elapsedMillis;
+    private double rowsPerSecond;       // 이번 실행의 처리 속도
+    private List<String> errors = new ArrayList<>();  // 건너뛴 레코드 사유 (앞쪽 일부만)
+}
@@ -1,6 +1,7 @@
 package com.inspection.dto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.Getter;
@@ -44,16 +45,21 @@ public class InspectionDetailDTO {
     private Character otherEquipment;
     
     // 측정개소
-    private String measurements;  // JSON 문자열
+    private List<MeasurementDTO> measurements;
     
     // 특이사항
     private String specialNotes;
     
-    private String signature;  // inspectorSignature가 아닌 signature로 변경
-    private String managerSignature;
+    private String signature;  // inspectorSignature가 아닌 signature로 변경 (서명 이미지 URL)
+    private String managerSignature;  // 서명 이미지 URL (/api/signatures/{id})
+    private String signatureId;
+    private String managerSignatureId;
     
     private List<String> images;  // 이미지 파일명 리스트
     
+    private Long version;                  // 수정될 때마다 증가
+    private LocalDateTime lastModifiedAt;  // 마지막 수정 시각
+    
     // 작성자 정보
     private Long userId;          // 작성자 ID
     private String username;      // 작성자 이름
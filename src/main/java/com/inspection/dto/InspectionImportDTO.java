@@ -0,0 +1,13 @@
+package com.inspection.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/* 일괄 가져오기 레코드 (CSV 한 행 또는 NDJSON 한 줄)
+ * 점검 생성 필드에 더해 업체/작성자를 ID 대신 이름으로 지정할 수 있다.
+ * CSV의 measurements, images 열은 JSON 배열 문자열로 적는다. */
+@Getter @Setter
+public class InspectionImportDTO extends InspectionCreateDTO {
+    private String companyName;     // companyId가 없을 때 업체명으로 조회
+    private String username;        // userId가 없을 때 로그인 아이디로 조회 (없으면 작성자 없이 저장)
+}
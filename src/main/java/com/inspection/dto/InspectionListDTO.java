@@ -2,10 +2,14 @@ package com.inspection.dto;
 
 import java.time.LocalDate;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class InspectionListDTO {
     private Long inspectionId; // 점검 아이디
     private Long companyId;    // 업체명
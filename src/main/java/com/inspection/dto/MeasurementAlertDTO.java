@@ -0,0 +1,22 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 기준 온도를 넘은 측정값 */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeasurementAlertDTO {
+    private Long inspectionId;
+    private String companyName;
+    private LocalDate inspectionDate;
+    private int pointNo;            // 측정개소 번호
+    private String location;        // 측정개소명
+    private String phase;           // 상 (A, B, C, N)
+    private Double temperature;     // 온도(℃)
+}
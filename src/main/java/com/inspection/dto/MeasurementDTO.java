@@ -0,0 +1,25 @@
+package com.inspection.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/* 측정개소 하나의 상별 측정값 (기존 JSON 형식과 같은 필드명) */
+@Getter @Setter
+public class MeasurementDTO {
+    private String location;        // 측정개소명
+
+    private Double voltageA;
+    private Double voltageB;
+    private Double voltageC;
+    private Double voltageN;
+
+    private Double currentA;
+    private Double currentB;
+    private Double currentC;
+    private Double currentN;
+
+    private Double temperatureA;
+    private Double temperatureB;
+    private Double temperatureC;
+    private Double temperatureN;
+}
@@ -0,0 +1,21 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class PdfExportProgressDTO {
+    private String exportId;          // 내보내기 작업 ID
+    private Long companyId;           // 업체 ID
+    private LocalDate startDate;      // 조회 시작일
+    private LocalDate endDate;        // 조회 종료일
+    private String status;            // RUNNING, COMPLETED, FAILED
+    private int totalCount;           // 전체 점검 건수
+    private int completedCount;       // ZIP에 기록된 건수
+    private int failedCount;          // 렌더링 실패 건수
+    private LocalDateTime startedAt;  // 시작 시각
+    private LocalDateTime finishedAt; // 종료 시각
+}
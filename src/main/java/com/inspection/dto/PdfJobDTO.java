@@ -0,0 +1,18 @@
+package com.inspection.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class PdfJobDTO {
+    private String jobId;               // 작업 ID
+    private Long inspectionId;          // 점검 ID
+    private String status;              // QUEUED, RUNNING, COMPLETED, FAILED
+    private int progress;               // 진행률 (0~100)
+    private String url;                 // 완료 시 다운로드 경로 (/pdf/...)
+    private String error;               // 실패 사유
+    private LocalDateTime createdAt;    // 요청 시각
+    private LocalDateTime completedAt;  // 완료 시각
+}
@@ -0,0 +1,20 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private String type;            // INSPECTION | FIRE_SAFETY
+    private Long id;                // 점검 ID
+    private String title;           // 업체명 또는 건물명
+    private String companyName;
+    private LocalDate inspectionDate;
+    private float score;            // 관련도 점수
+}
@@ -0,0 +1,20 @@
+package com.inspection.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String query;
+    private long totalHits;         // 전체 일치 건수
+    private int page;
+    private int size;
+    private long tookMillis;        // 색인 검색 시간
+    private List<SearchHitDTO> hits;
+}
@@ -0,0 +1,21 @@
+package com.inspection.dto;
+
+import java.time.LocalDateTime;
+
+import com.inspection.storage.StorageArea;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class UploadSessionDTO {
+    private String uploadId;
+    private StorageArea area;
+    private String fileName;
+    private long size;              // 전체 파일 크기
+    private long offset;            // 다음에 보낼 위치 (= 수신 완료 바이트 수)
+    private long maxChunkSize;      // 한 번에 보낼 수 있는 최대 바이트 수
+    private String status;          // OPEN, COMPLETED
+    private String storageKey;      // 완료 후 점검 images/attachments에 넣을 파일명
+    private LocalDateTime expiresAt;
+}
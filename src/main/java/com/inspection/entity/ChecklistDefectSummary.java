@@ -0,0 +1,54 @@
+package com.inspection.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 업체 x 월 x 점검항목별 점검내역 집계 (불량률 통계용)
+ * 점검 생성/수정/삭제 시 ChecklistSummaryService가 같은 트랜잭션에서 증감한다. 직접 저장하지 않는다. */
+@Entity
+@Table(name = "checklist_defect_summary", indexes = {
+    @Index(name = "idx_checklist_summary_month", columnList = "summary_month")   // 기간별 집계
+})
+@IdClass(ChecklistDefectSummary.Key.class)
+@Getter @Setter
+public class ChecklistDefectSummary {
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Id
+    @Column(name = "summary_month")
+    private LocalDate summaryMonth;     // 해당 월 1일
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 40)
+    private ChecklistItem item;
+
+    private long totalCount;            // 점검 건수 (값이 비어 있는 점검 포함)
+    private long passCount;             // O
+    private long failCount;             // X
+    private long naCount;               // /
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long companyId;
+        private LocalDate summaryMonth;
+        private ChecklistItem item;
+    }
+}
@@ -0,0 +1,44 @@
+package com.inspection.entity;
+
+import java.util.function.Function;
+
+/* 전기설비 점검내역 항목 (Inspection의 Character 컬럼, 값은 O 적합 / X 부적합 / 해당없음) */
+public enum ChecklistItem {
+    WIRING_INLET("wiring_inlet", "인입구 배선", Inspection::getWiringInlet),
+    DISTRIBUTION_PANEL("distribution_panel", "배ㆍ분전반", Inspection::getDistributionPanel),
+    MOLDED_CASE_BREAKER("molded_case_breaker", "배선용 차단기", Inspection::getMoldedCaseBreaker),
+    EARTH_LEAKAGE_BREAKER("earth_leakage_breaker", "누전 차단기", Inspection::getEarthLeakageBreaker),
+    SWITCH_GEAR("switch_gear", "개폐기", Inspection::getSwitchGear),
+    WIRING("wiring", "배선", Inspection::getWiring),
+    MOTOR("motor", "전동기", Inspection::getMotor),
+    HEATING_EQUIPMENT("heating_equipment", "전열설비", Inspection::getHeatingEquipment),
+    WELDER("welder", "용접기", Inspection::getWelder),
+    CAPACITOR("capacitor", "콘덴서", Inspection::getCapacitor),
+    LIGHTING("lighting", "조명설비", Inspection::getLighting),
+    GROUNDING("grounding", "접지설비", Inspection::getGrounding),
+    INTERNAL_WIRING("internal_wiring", "구내 전선로", Inspection::getInternalWiring),
+    GENERATOR("generator", "발전기", Inspection::getGenerator),
+    OTHER_EQUIPMENT("other_equipment", "기타설비", Inspection::getOtherEquipment);
+
+    private final String column;
+    private final String label;
+    private final Function<Inspection, Character> getter;
+
+    ChecklistItem(String column, String label, Function<Inspection, Character> getter) {
+        this.column = column;
+        this.label = label;
+        this.getter = getter;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Character valueOf(Inspection inspection) {
+        return getter.apply(inspection);
+    }
+}
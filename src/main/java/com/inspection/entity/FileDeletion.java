@@ -0,0 +1,39 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 삭제 대기 중인 업로드 파일
+ * 게시물/점검 삭제와 같은 트랜잭션에서 추가되므로 롤백되면 파일도 남고, 커밋되면 FileCleanupService가 지운다. */
+@Entity
+@Table(name = "file_deletion_queue", indexes = {
+    @Index(name = "idx_file_deletion_due", columnList = "next_attempt_at")
+})
+@Getter @Setter
+public class FileDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String path;                // 작업 디렉터리 기준 파일 경로
+
+    private int attempts;               // 실패한 삭제 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.inspection.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -10,10 +11,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,7 +28,10 @@ import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
 @Entity
-@Table(name = "fire_safety_inspections")
+@Table(name = "fire_safety_inspections", indexes = {
+    @Index(name = "idx_fire_inspection_date_id", columnList = "inspection_date, fire_inspection_id"),  // 커서 목록
+    @Index(name = "idx_fire_inspection_company_date", columnList = "company_id, inspection_date")     // 업체별 이력
+})
 @Getter @Setter
 public class FireSafetyInspection {
     
@@ -73,14 +80,12 @@ public class FireSafetyInspection {
     @Column(name = "etc_comment", columnDefinition = "TEXT")
     private String etcComment;  // 기타 의견
 
-    // 서명
-    @Lob
-    @Column(name = "inspector_signature", columnDefinition = "LONGTEXT")
-    private String inspectorSignature;  // 점검자 서명 데이터
+    // 서명 (이미지는 signatures 테이블, 여기에는 키만 저장)
+    @Column(name = "inspector_signature_id", length = 64)
+    private String inspectorSignatureId;  // 점검자 서명
 
-    @Lob
-    @Column(name = "manager_signature", columnDefinition = "LONGTEXT")
-    private String managerSignature;  // 관리자 서명 데이터
+    @Column(name = "manager_signature_id", length = 64)
+    private String managerSignatureId;  // 관리자 서명
 
     // 첨부파일 (JSON 형식으로 여러 이미지 저장)
     @Column(name = "attachments", columnDefinition = "JSON")
@@ -92,6 +97,20 @@ public class FireSafetyInspection {
 
     @Column(name = "updated_at")
     private LocalDate updatedAt;
+
+    // 변경 추적 (ETag / Last-Modified). updated_at은 날짜 단위라 별도 컬럼을 둔다
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;  // 마지막 수정 시각
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        lastModifiedAt = LocalDateTime.now();
+    }
 }
 
 @Converter
@@ -1,33 +1,59 @@
 package com.inspection.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@DynamicUpdate  // 부분 수정(PATCH) 시 바뀐 컬럼만 UPDATE
+@Table(indexes = {
+    @Index(name = "idx_inspection_date_id", columnList = "inspection_date, inspection_id"),  // 커서 목록
+    @Index(name = "idx_inspection_company_date", columnList = "company_id, inspection_date")   // 업체별 이력 (PK는 InnoDB가 뒤에 붙임)
+})
 @Getter @Setter
 public class Inspection {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 insert마다 키를 받아야 해서 JDBC 배치가 꺼지므로, id_generator 테이블에서 50개씩 미리 할당
+    // 시작 값은 IdGeneratorSeeder가 기존 최대 ID 이후로 맞춘다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "inspection_id")
+    @TableGenerator(name = "inspection_id", table = "id_generator", pkColumnName = "gen_name",
+        valueColumnName = "next_val", pkColumnValue = "inspection", allocationSize = Inspection.ID_ALLOCATION_SIZE)
     private Long inspectionId;
     
     // 기본 정보
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;        // 업체 ID
     private LocalDate inspectionDate;   // 점검일자
     private String managerName;         // 관리사 이름
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;    // 점검 작성자
     
@@ -58,23 +84,39 @@ public class Inspection {
     private Character generator;             // 발전기
     private Character otherEquipment;        // 기타설비
     
-    // 측정개소 필드들 (JSON으로 저장)
-    @Column(columnDefinition = "JSON")
-    private String measurements;             // 측정개소 데이터 (JSON 형식)
+    // 측정개소 (상별 측정값 행, 점검과 함께 일괄 insert)
+    // 기존 JSON 컬럼(measurements)은 LegacyMeasurementMigration이 옮기며, 결과를 확인할 때까지 그대로 둔다
+    @ElementCollection
+    @CollectionTable(name = "inspection_measurements", joinColumns = @JoinColumn(name = "inspection_id"))
+    @OrderColumn(name = "seq")
+    @BatchSize(size = 50)
+    private List<InspectionMeasurement> measurements = new ArrayList<>();
     
     // 특이사항 필드
     @Column(columnDefinition = "TEXT")
     private String specialNotes;            // 특이사항
     
-    // 서명 필드들
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
-    private String signature;               // 점검자 서명 데이터
+    // 서명 (이미지는 signatures 테이블, 여기에는 키만 저장)
+    // 기존 LONGTEXT 컬럼(signature, manager_signature)은 LegacySignatureMigration이 옮기며, 결과를 확인할 때까지 그대로 둔다
+    @Column(length = 64)
+    private String signatureId;             // 점검자 서명
     
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
-    private String managerSignature;        // 관리자 서명 데이터
+    @Column(length = 64)
+    private String managerSignatureId;      // 관리자 서명
     
     @Column(columnDefinition = "JSON")
     private String images;    // 첨부 이미지 파일명들을 JSON 배열로 저장
+    
+    // 변경 추적 (ETag / Last-Modified). 기존 행은 0부터 시작
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    private LocalDateTime lastModifiedAt;   // 마지막 수정 시각
+    
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        lastModifiedAt = LocalDateTime.now();
+    }
 } 
\ No newline at end of file
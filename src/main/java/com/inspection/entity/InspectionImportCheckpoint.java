@@ -0,0 +1,31 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 점검 일괄 가져오기 진행 위치
+ * 배치와 같은 트랜잭션에서 갱신되므로, 중단 후 같은 importId로 다시 실행하면 lastRecord 다음 레코드부터 이어서 가져온다. */
+@Entity
+@Table(name = "inspection_import_checkpoints")
+@Getter @Setter
+public class InspectionImportCheckpoint {
+    @Id
+    @Column(length = 100)
+    private String importId;            // 가져오기 작업 키 (호출자가 지정, 예: 파일명)
+
+    private long lastRecord;            // 마지막으로 커밋된 레코드 번호 (CSV 머리행 제외, 1부터)
+    private long importedCount;         // 저장된 점검 수
+    private long skippedCount;          // 형식 오류 등으로 건너뛴 레코드 수
+
+    @Column(length = 20)
+    private String status;              // RUNNING, COMPLETED, FAILED
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.inspection.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 측정개소의 상(A/B/C/N)별 측정값 한 행 (inspection_measurements 테이블) */
+@Embeddable
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InspectionMeasurement {
+    private int pointNo;                // 측정개소 번호 (1부터)
+
+    private String location;            // 측정개소명
+
+    @Column(length = 1)
+    private String phase;               // 상 (A, B, C, N)
+
+    private Double voltage;             // 전압(V)
+    private Double current;             // 전류(A)
+    private Double temperature;         // 온도(℃)
+}
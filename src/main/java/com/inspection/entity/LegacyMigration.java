@@ -0,0 +1,43 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 이전 형식 컬럼을 새 구조로 옮긴 기록 (legacy_migrations)
+ * 기존 컬럼은 옮긴 결과를 확인할 때까지 지우거나 비우지 않으므로, 어떤 행을 옮겼는지는 여기에 남긴다.
+ * 기록이 있는 행은 다시 옮기지 않는다 (화면에서 값을 지운 뒤 재시작해도 되살아나지 않도록).
+ * 일부 값을 옮기지 못한 행은 PARTIAL과 그 값들을 남겨, 기존 컬럼을 지우기 전에 확인할 수 있게 한다. */
+@Entity
+@Table(name = "legacy_migrations", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_legacy_migrations_source_row", columnNames = {"source", "row_id"})
+})
+@Getter @Setter
+public class LegacyMigration {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String source;              // 테이블.컬럼 (예: inspection.measurements)
+
+    @Column(name = "row_id", nullable = false)
+    private Long rowId;                 // 옮긴 행의 PK
+
+    @Column(nullable = false, length = 10)
+    private String status;              // DONE, PARTIAL
+
+    @Column(columnDefinition = "TEXT")
+    private String detail;              // 옮기지 못한 값 (PARTIAL일 때)
+
+    @Column(name = "migrated_at", nullable = false)
+    private LocalDateTime migratedAt;
+}
@@ -0,0 +1,38 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 서명 이미지 저장소
+ * 키는 이미지 바이트의 SHA-256 (같은 서명은 한 번만 저장). 점검 테이블에는 키만 둔다. */
+@Entity
+@Table(name = "signatures")
+@Getter @Setter
+public class Signature {
+    @Id
+    @Column(length = 64)
+    private String signatureId;         // SHA-256 (hex)
+
+    private String contentType;         // image/png 등
+
+    private int size;                   // 바이트 수
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] data;                // 디코딩된 이미지 바이트
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,47 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import com.inspection.storage.StorageArea;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 내용 주소 방식으로 저장된 업로드 파일과 참조 수
+ * 키는 "디렉터리/파일명"이라 같은 디렉터리를 쓰는 영역(점검 이미지, 공지 이미지)은 한 행을 함께 센다.
+ * 참조 수는 점검/게시물 트랜잭션 안에서 증감하고, 0인 채로 유예 시간이 지나면 StoredFileService가 파일과 함께 지운다. */
+@Entity
+@Table(name = "stored_files", indexes = {
+    @Index(name = "idx_stored_files_unreferenced", columnList = "ref_count, last_seen_at")
+})
+@Getter @Setter
+public class StoredFile {
+    @Id
+    @Column(name = "storage_key", length = 300)
+    private String storageKey;          // 디렉터리/파일명
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private StorageArea area;           // 파일 경로를 찾을 때 쓰는 영역 (처음 등록한 영역)
+
+    @Column(nullable = false)
+    private String name;                // 파일명 (해시.확장자, 이전 파일은 UUID_원본파일명)
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;              // 이 파일을 가리키는 점검/게시물 첨부 수
+
+    private Long size;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;   // 마지막 업로드/참조 변경 시각 (정리 유예 기준)
+}
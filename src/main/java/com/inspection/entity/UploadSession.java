@@ -0,0 +1,52 @@
+package com.inspection.entity;
+
+import java.time.LocalDateTime;
+
+import com.inspection.storage.StorageArea;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/* 이어받기(chunked) 업로드 진행 상태
+ * receivedBytes는 조각이 디스크에 fsync된 뒤에만 늘어나므로, 끊긴 뒤 다시 시작하면 이 위치부터 보내면 된다. */
+@Entity
+@Table(name = "upload_session", indexes = {
+    @Index(name = "idx_upload_session_expires", columnList = "expires_at")
+})
+@Getter @Setter
+public class UploadSession {
+    @Id
+    @Column(length = 36)
+    private String uploadId;            // UUID
+
+    @Column(nullable = false)
+    private Long userId;                // 업로드를 시작한 사용자 (다른 사용자는 접근 불가)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private StorageArea area;
+
+    @Column(nullable = false)
+    private String fileName;            // 원본 파일명 (확장자 결정용)
+
+    private long totalSize;
+    private long receivedBytes;         // 0부터 이어진 수신 완료 바이트 수
+
+    @Column(length = 20)
+    private String status;              // OPEN, COMPLETED
+
+    private String storedName;          // 완료 후 저장소 파일명 (점검 DTO의 images/attachments에 넣는 값)
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;    // 지나면 조각 파일과 함께 정리
+}
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 소방 점검 기록을 찾을 수 없을 때 예외 처리 (404) */
+public class FireSafetyInspectionNotFoundException extends RuntimeException {
+    public FireSafetyInspectionNotFoundException(Long id) {
+        super("점검 기록을 찾을 수 없습니다. ID: " + id);
+    }
+}
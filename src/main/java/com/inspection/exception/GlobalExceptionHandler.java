@@ -1,6 +1,7 @@
 package com.inspection.exception;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -18,6 +19,136 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(response);
     }
 
+    // 없는 소방 점검은 404 응답
+    @ExceptionHandler(FireSafetyInspectionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleFireSafetyInspectionNotFound(FireSafetyInspectionNotFoundException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("404");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(404).body(response);
+    }
+
+    // 동시 작업 수 제한 초과 시 503 응답
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(ServiceBusyException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("503");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(503)
+            .header("Retry-After", "30")
+            .body(response);
+    }
+
+    // 해석할 수 없는 목록 커서는 400 응답
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 부분 수정할 수 없는 필드/값은 400 응답
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatch(InvalidPatchException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 저장할 수 없는 측정값(숫자가 아닌 값, 값 없는 개소)은 400 응답
+    @ExceptionHandler(InvalidMeasurementException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidMeasurement(InvalidMeasurementException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 처리할 수 없는 가져오기 입력(형식, 머리행)은 400 응답
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImport(InvalidImportException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 처리할 수 없는 검색 요청(결과 범위 초과)은 400 응답
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearch(InvalidSearchException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 없는 이어받기 업로드는 404 응답
+    @ExceptionHandler(UploadNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUploadNotFound(UploadNotFoundException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("404");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(404).body(response);
+    }
+
+    // 서명 이미지로 받을 수 없는 값은 400 응답
+    @ExceptionHandler(InvalidSignatureException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSignature(InvalidSignatureException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 잘못된 이어받기 업로드 요청은 400 응답
+    @ExceptionHandler(InvalidUploadException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidUpload(InvalidUploadException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("400");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(400).body(response);
+    }
+
+    // 이어받기 위치 불일치는 409 응답 (Upload-Offset 위치부터 다시 보내면 된다)
+    @ExceptionHandler(UploadConflictException.class)
+    public ResponseEntity<ErrorResponse> handleUploadConflict(UploadConflictException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("409");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(409)
+            .header("Upload-Offset", String.valueOf(e.getOffset()))
+            .body(response);
+    }
+
+    // If-Match 버전 불일치는 412 응답 (클라이언트는 다시 조회 후 재시도)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("412");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(412).body(response);
+    }
+
+    // 버전 없이 부분 수정 요청 시 428 응답
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequired(PreconditionRequiredException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("428");
+        response.setMessage(e.getMessage());
+        return ResponseEntity.status(428).body(response);
+    }
+
+    // 같은 점검을 동시에 수정해 커밋 시점에 버전이 바뀐 경우 409 응답
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        ErrorResponse response = new ErrorResponse();
+        response.setCode("409");
+        response.setMessage("다른 사용자가 동시에 수정했습니다. 다시 조회한 뒤 수정해 주세요");
+        return ResponseEntity.status(409).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception e) {
         ErrorResponse response = new ErrorResponse();
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 목록 커서를 해석할 수 없을 때 예외 처리 (400) */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("잘못된 목록 커서입니다: " + cursor);
+    }
+}
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 가져오기 입력 전체를 처리할 수 없을 때 예외 처리 (400). 개별 레코드 오류는 건너뛰고 결과에 기록한다 */
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
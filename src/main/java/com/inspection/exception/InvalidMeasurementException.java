@@ -0,0 +1,15 @@
+package com.inspection.exception;
+
+import java.util.List;
+
+/* 측정개소에 숫자로 읽을 수 없는 값이 있거나 측정값 없이 개소명만 있을 때 예외 처리 (400)
+ * 저장하면 그 값이 조용히 빠지므로 거부하고 어떤 값인지 알려준다 */
+public class InvalidMeasurementException extends RuntimeException {
+
+    private static final int MAX_REPORTED = 10;
+
+    public InvalidMeasurementException(List<String> rejected) {
+        super("측정값을 저장할 수 없습니다: " + String.join(", ", rejected.subList(0, Math.min(rejected.size(), MAX_REPORTED)))
+            + (rejected.size() > MAX_REPORTED ? " 외 " + (rejected.size() - MAX_REPORTED) + "건" : ""));
+    }
+}
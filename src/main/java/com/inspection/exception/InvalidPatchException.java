@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 부분 수정할 수 없는 필드이거나 값 형식이 잘못되었을 때 예외 처리 (400) */
+public class InvalidPatchException extends RuntimeException {
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 처리할 수 없는 검색 요청(결과 범위 초과 등) 예외 처리 (400) */
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 서명으로 받을 수 없는 값(data URL이 아님, PNG/JPEG가 아님, base64 오류) 예외 처리 (400) */
+public class InvalidSignatureException extends RuntimeException {
+    public InvalidSignatureException(String message) {
+        super(message);
+    }
+}
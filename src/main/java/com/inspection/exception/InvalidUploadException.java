@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 잘못된 이어받기 업로드 요청(크기 초과, 허용되지 않는 영역 등) 예외 처리 (400) */
+public class InvalidUploadException extends RuntimeException {
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
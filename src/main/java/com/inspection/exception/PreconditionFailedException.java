@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 요청의 버전(If-Match)이 현재 버전과 다를 때 예외 처리 (412) */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(Long expectedVersion, Long currentVersion) {
+        super("다른 사용자가 먼저 수정했습니다. 요청 버전: " + expectedVersion + ", 현재 버전: " + currentVersion);
+    }
+}
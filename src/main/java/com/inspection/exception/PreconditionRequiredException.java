@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 부분 수정 요청에 버전(If-Match 또는 version)이 없을 때 예외 처리 (428) */
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException() {
+        super("수정할 버전을 If-Match 헤더 또는 version 필드로 전달해야 합니다");
+    }
+}
@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 작업 슬롯이나 대기열이 가득 차 요청을 받을 수 없을 때 예외 처리 */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
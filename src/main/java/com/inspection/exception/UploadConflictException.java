@@ -0,0 +1,16 @@
+package com.inspection.exception;
+
+/* 이어받기 업로드의 위치가 맞지 않거나 같은 업로드에 동시에 쓰는 경우 예외 처리 (409)
+ * 응답의 Upload-Offset 헤더로 서버가 받은 위치를 알려 주어 빠진 부분만 다시 보내게 한다 */
+public class UploadConflictException extends RuntimeException {
+    private final long offset;
+
+    public UploadConflictException(String message, long offset) {
+        super(message);
+        this.offset = offset;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+}
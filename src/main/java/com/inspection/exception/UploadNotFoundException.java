@@ -0,0 +1,8 @@
+package com.inspection.exception;
+
+/* 없거나 만료되었거나 다른 사용자의 이어받기 업로드 예외 처리 (404) */
+public class UploadNotFoundException extends RuntimeException {
+    public UploadNotFoundException(String uploadId) {
+        super("업로드를 찾을 수 없습니다: " + uploadId);
+    }
+}
@@ -0,0 +1,144 @@
+package com.inspection.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.IntConsumer;
+
+import com.inspection.service.ImageDerivativeService;
+import com.inspection.service.PdfRenderContext;
+import com.inspection.service.SignatureService;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+
+/* 문서 한 건을 렌더링하는 동안 섹션들이 공유하는 작성 도구
+ * 공용 스타일은 PdfRenderContext에서 가져오고, 문서 상태(Document, 진행률)는 여기서만 가진다. */
+public class ReportCanvas {
+
+    private final Document document;
+    private final PdfRenderContext context;
+    private final ImageDerivativeService imageDerivativeService;
+    private final SignatureService signatureService;
+    private final IntConsumer progress;
+
+    public ReportCanvas(Document document, PdfRenderContext context, ImageDerivativeService imageDerivativeService,
+                        SignatureService signatureService, IntConsumer progress) {
+        this.document = document;
+        this.context = context;
+        this.imageDerivativeService = imageDerivativeService;
+        this.signatureService = signatureService;
+        this.progress = progress;
+    }
+
+    public PdfRenderContext getContext() {
+        return context;
+    }
+
+    public void add(IBlockElement element) {
+        document.add(element);
+    }
+
+    public void reportProgress(int percent) {
+        progress.accept(percent);
+    }
+
+    public void addSectionTitle(String title) {
+        document.add(new Paragraph("\n" + title).addStyle(context.getSectionTitleStyle()));
+    }
+
+    // 테이블 헤더 스타일링 메서드
+    public void addTableHeader(Table table, String title, int colspan) {
+        Cell headerCell = new Cell(1, colspan)
+            .add(new Paragraph(title))
+            .addStyle(context.getHeaderCellStyle());
+        table.addCell(headerCell);
+    }
+
+    // 테이블 행 스타일링 메서드
+    public void addStyledRow(Table table, String label, String value) {
+        table.addCell(
+            new Cell()
+                .add(new Paragraph(label))
+                .addStyle(context.getLabelCellStyle())
+        );
+        table.addCell(
+            new Cell()
+                .add(new Paragraph(value != null ? value : "-"))
+                .addStyle(context.getValueCellStyle())
+        );
+    }
+
+    // 체크리스트 아이템 스타일링
+    public void addChecklistItem(Table table, String label, String status) {
+        table.addCell(
+            new Cell()
+                .add(new Paragraph(label))
+                .addStyle(context.getValueCellStyle())
+        );
+
+        String statusText = getStatusText(status);
+        Cell statusCell = new Cell()
+            .add(new Paragraph(statusText))
+            .addStyle(context.getStatusCellStyle());
+
+        // 상태에 따른 배경색 설정
+        switch(statusText) {
+            case "적합" -> statusCell.addStyle(context.getPassStatusStyle());
+            case "부적합" -> statusCell.addStyle(context.getFailStatusStyle());
+        }
+
+        table.addCell(statusCell);
+    }
+
+    /* 첨부 이미지 (업로드 시 만들어 둔 축소 파생본을 우선 사용) */
+    public void addAttachment(String directory, String imageName) {
+        try {
+            Path imagePath = imageDerivativeService.resolveForPdf(Paths.get(directory, imageName));
+            ImageData imageData = ImageDataFactory.create(imagePath.toAbsolutePath().toString());
+            Image pdfImage = new Image(imageData);
+            // 이미지 크기 조정 (너비를 페이지의 80%로)
+            float pageWidth = document.getPdfDocument().getDefaultPageSize().getWidth();
+            pdfImage.setWidth(pageWidth * 0.8f);
+            document.add(pdfImage);
+            document.add(new Paragraph("\n"));
+        } catch (IOException | com.itextpdf.io.exceptions.IOException e) {
+            document.add(new Paragraph("이미지 파일을 찾을 수 없습니다: " + imageName));
+        } catch (IllegalArgumentException e) {
+            document.add(new Paragraph("잘못된 이미지 형식입니다: " + imageName));
+        }
+    }
+
+    /* 서명 셀. 저장소에서 디코딩된 이미지 바이트를 바로 읽는다 */
+    public Cell signatureCell(String signatureId) {
+        if (signatureId == null || signatureId.isBlank()) {
+            return new Cell().add(new Paragraph("서명 없음"));
+        }
+        byte[] data = signatureService.loadData(signatureId);
+        if (data == null) {
+            return new Cell().add(new Paragraph("서명 이미지를 찾을 수 없습니다"));
+        }
+        try {
+            Image signatureImage = new Image(ImageDataFactory.create(data));
+            signatureImage.setHeight(50); // 서명 이미지 높이 고정
+            return new Cell().add(signatureImage);
+        } catch (com.itextpdf.io.exceptions.IOException | IllegalArgumentException e) {
+            return new Cell().add(new Paragraph("잘못된 서명 이미지 형식입니다"));
+        }
+    }
+
+    private String getStatusText(String status) {
+        if (status == null) return "-";
+        return switch(status) {
+            case "O" -> "적합";
+            case "X" -> "부적합";
+            case "/" -> "해당없음";
+            default -> "-";
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package com.inspection.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.itextpdf.layout.borders.Border;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
+
+/* 선언형 PDF 결과서 템플릿
+ * 시작 시 builder로 한 번 만들어 두고(불변), 레코드마다 render 시점에 값만 채운다.
+ * 레이아웃 코드는 각 섹션에만 있으므로 결과서 종류가 늘어도 배치 정의만 추가하면 된다. */
+public class ReportTemplate<T> {
+
+    private final String title;
+    private final List<Section<T>> sections;
+
+    private ReportTemplate(String title, List<Section<T>> sections) {
+        this.title = title;
+        this.sections = List.copyOf(sections);
+    }
+
+    public static <T> Builder<T> builder(String title) {
+        return new Builder<>(title);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<Section<T>> getSections() {
+        return sections;
+    }
+
+    /* 레이블 + 값 (값이 null이면 "-") */
+    public record Field<T>(String label, Function<T, ?> value) {
+        String text(T data) {
+            Object v = value.apply(data);
+            return v != null ? v.toString() : null;
+        }
+    }
+
+    public static <T> Field<T> field(String label, Function<T, ?> value) {
+        return new Field<>(label, value);
+    }
+
+    /* 결과서의 한 구역 */
+    public interface Section<T> {
+        void render(ReportCanvas canvas, T data);
+    }
+
+    public static class Builder<T> {
+        private final String title;
+        private final List<Section<T>> sections = new ArrayList<>();
+
+        private Builder(String title) {
+            this.title = title;
+        }
+
+        /* 머리행이 있는 2열(레이블/값) 표 */
+        @SafeVarargs
+        public final Builder<T> fields(String header, Field<T>... fields) {
+            // 가변 인자 배열을 다른 메서드에 넘기지 않고 복사 ([varargs] 경고)
+            List<Field<T>> rows = new ArrayList<>(fields.length);
+            for (Field<T> field : fields) {
+                rows.add(Objects.requireNonNull(field));
+            }
+            sections.add((canvas, data) -> {
+                Table table = new Table(new float[]{1, 2})
+                    .setWidth(UnitValue.createPercentValue(100))
+                    .setMarginBottom(20);
+                table.addStyle(canvas.getContext().getTableBorderStyle());
+                canvas.addTableHeader(table, header, 2);
+                for (Field<T> field : rows) {
+                    canvas.addStyledRow(table, field.label(), field.text(data));
+                }
+                canvas.add(table);
+            });
+            return this;
+        }
+
+        /* 제목 + 좌우 2단으로 나눈 레이블/값 표 */
+        public Builder<T> columns(String title, List<Field<T>> left, List<Field<T>> right) {
+            List<Field<T>> leftRows = List.copyOf(left);
+            List<Field<T>> rightRows = List.copyOf(right);
+            sections.add((canvas, data) -> {
+                canvas.addSectionTitle(title);
+                Table table = new Table(new float[]{1, 1})
+                    .setWidth(UnitValue.createPercentValue(100))
+                    .setMarginBottom(20);
+                canvas.addTableHeader(table, title, 2);
+                table.addCell(new Cell().add(column(canvas, leftRows, data)).setBorder(Border.NO_BORDER));
+                table.addCell(new Cell().add(column(canvas, rightRows, data)).setBorder(Border.NO_BORDER));
+                canvas.add(table);
+            });
+            return this;
+        }
+
+        /* 항목별 적합/부적합 표. 값은 O, X, / 코드 */
+        @SafeVarargs
+        public final Builder<T> checklist(String title, Field<T>... items) {
+            List<Field<T>> rows = new ArrayList<>(items.length);
+            for (Field<T> item : items) {
+                rows.add(Objects.requireNonNull(item));
+            }
+            sections.add((canvas, data) -> {
+                canvas.addSectionTitle(title);
+                Table table = new Table(2).setWidth(UnitValue.createPercentValue(100));
+                for (Field<T> item : rows) {
+                    canvas.addChecklistItem(table, item.label(), item.text(data));
+                }
+                canvas.add(table);
+            });
+            return this;
+        }
+
+        /* 머리행 + 데이터 행 표. 행이 없으면 구역 전체를 생략 */
+        public Builder<T> table(String title, List<String> headers, Function<T, List<List<String>>> rows) {
+            List<String> columns = List.copyOf(headers);
+            sections.add((canvas, data) -> {
+                List<List<String>> values = rows.apply(data);
+                if (values == null || values.isEmpty()) {
+                    return;
+                }
+                canvas.addSectionTitle(title);
+                Table table = new Table(columns.size()).setWidth(UnitValue.createPercentValue(100));
+                for (String header : columns) {
+                    table.addCell(new Cell().add(new Paragraph(header))
+                        .addStyle(canvas.getContext().getLabelCellStyle()));
+                }
+                for (List<String> row : values) {
+                    for (String value : row) {
+                        table.addCell(new Cell().add(new Paragraph(value != null ? value : "-")));
+                    }
+                }
+                canvas.add(table);
+            });
+            return this;
+        }
+
+        /* 제목 + 본문. 값이 비어 있으면 emptyText */
+        public Builder<T> text(String title, Function<T, String> value, String emptyText) {
+            sections.add((canvas, data) -> {
+                canvas.addSectionTitle(title);
+                String text = value.apply(data);
+                canvas.add(new Paragraph(text != null && !text.isBlank() ? text : emptyText));
+            });
+            return this;
+        }
+
+        /* 업로드 디렉토리의 첨부 이미지. 이미지 처리 비중이 커서 진행률(30~90%)을 여기서 보고한다 */
+        public Builder<T> images(String title, String directory, Function<T, List<String>> images) {
+            sections.add((canvas, data) -> {
+                List<String> names = images.apply(data);
+                canvas.reportProgress(30);
+                if (names == null || names.isEmpty()) {
+                    return;
+                }
+                canvas.addSectionTitle(title);
+                int index = 0;
+                for (String name : names) {
+                    canvas.reportProgress(30 + 60 * index++ / names.size());
+                    canvas.addAttachment(directory, name);
+                }
+            });
+            return this;
+        }
+
+        /* 서명 표 (값은 서명 저장소 키) */
+        @SafeVarargs
+        public final Builder<T> signatures(String title, Field<T>... signers) {
+            List<Field<T>> rows = new ArrayList<>(signers.length);
+            for (Field<T> signer : signers) {
+                rows.add(Objects.requireNonNull(signer));
+            }
+            sections.add((canvas, data) -> {
+                canvas.addSectionTitle(title);
+                Table table = new Table(2).setWidth(UnitValue.createPercentValue(100));
+                for (Field<T> signer : rows) {
+                    table.addCell(new Cell().add(new Paragraph(signer.label())));
+                    table.addCell(canvas.signatureCell(signer.text(data)));
+                }
+                canvas.add(table);
+            });
+            return this;
+        }
+
+        public ReportTemplate<T> build() {
+            return new ReportTemplate<>(title, sections);
+        }
+
+        private Table column(ReportCanvas canvas, List<Field<T>> rows, T data) {
+            Table column = new Table(1).setWidth(UnitValue.createPercentValue(100));
+            for (Field<T> field : rows) {
+                canvas.addStyledRow(column, field.label(), field.text(data));
+            }
+            return column;
+        }
+    }
+}
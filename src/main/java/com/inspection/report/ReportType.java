@@ -0,0 +1,21 @@
+package com.inspection.report;
+
+/* PDF 결과서 종류. 캐시 키와 다운로드 파일명 접두어로 사용한다 */
+public enum ReportType {
+    INSPECTION("inspection"),       // 전기설비 점검
+    FIRE_SAFETY("fire_inspection"); // 소방시설 점검
+
+    private final String prefix;
+
+    ReportType(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String fileName(Long id) {
+        return prefix + "_" + id + ".pdf";
+    }
+}
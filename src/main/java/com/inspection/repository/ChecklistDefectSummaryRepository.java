@@ -0,0 +1,43 @@
+package com.inspection.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inspection.dto.DefectRateDTO;
+import com.inspection.entity.ChecklistDefectSummary;
+
+/* 집계표 조회 전용. 증감은 ChecklistSummaryService가 upsert SQL로 한다 */
+public interface ChecklistDefectSummaryRepository
+        extends JpaRepository<ChecklistDefectSummary, ChecklistDefectSummary.Key> {
+
+    @Query("SELECT new com.inspection.dto.DefectRateDTO(s.companyId, c.companyName, " +
+           "SUM(s.passCount + s.failCount), SUM(s.failCount)) " +
+           "FROM ChecklistDefectSummary s LEFT JOIN Company c ON c.companyId = s.companyId " +
+           "WHERE s.summaryMonth BETWEEN :from AND :to " +
+           "AND (:companyId IS NULL OR s.companyId = :companyId) " +
+           "GROUP BY s.companyId, c.companyName ORDER BY SUM(s.failCount) DESC")
+    List<DefectRateDTO> findRatesByCompany(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                           @Param("companyId") Long companyId);
+
+    @Query("SELECT new com.inspection.dto.DefectRateDTO(s.summaryMonth, " +
+           "SUM(s.passCount + s.failCount), SUM(s.failCount)) " +
+           "FROM ChecklistDefectSummary s " +
+           "WHERE s.summaryMonth BETWEEN :from AND :to " +
+           "AND (:companyId IS NULL OR s.companyId = :companyId) " +
+           "GROUP BY s.summaryMonth ORDER BY s.summaryMonth")
+    List<DefectRateDTO> findRatesByMonth(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                         @Param("companyId") Long companyId);
+
+    @Query("SELECT new com.inspection.dto.DefectRateDTO(s.item, " +
+           "SUM(s.passCount + s.failCount), SUM(s.failCount)) " +
+           "FROM ChecklistDefectSummary s " +
+           "WHERE s.summaryMonth BETWEEN :from AND :to " +
+           "AND (:companyId IS NULL OR s.companyId = :companyId) " +
+           "GROUP BY s.item")
+    List<DefectRateDTO> findRatesByItem(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("companyId") Long companyId);
+}
@@ -2,10 +2,16 @@ package com.inspection.repository;
 
 import com.inspection.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     Optional<Company> findByCompanyName(String companyName);
     boolean existsByCompanyName(String companyName);
+
+    // 일괄 가져오기용 업체명 -> ID 조회표 ([companyId, companyName])
+    @Query("SELECT c.companyId, c.companyName FROM Company c")
+    List<Object[]> findAllIdAndName();
 } 
\ No newline at end of file
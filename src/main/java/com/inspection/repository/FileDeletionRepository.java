@@ -0,0 +1,21 @@
+package com.inspection.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inspection.entity.FileDeletion;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+    // 지금 삭제할 차례인 항목 (재시도 한도를 넘긴 항목은 제외, idx_file_deletion_due 사용)
+    @Query("SELECT d FROM FileDeletion d " +
+           "WHERE d.nextAttemptAt <= :now AND d.attempts < :maxAttempts " +
+           "ORDER BY d.nextAttemptAt, d.id")
+    List<FileDeletion> findDue(@Param("now") LocalDateTime now,
+                               @Param("maxAttempts") int maxAttempts,
+                               Pageable pageable);
+}
@@ -2,14 +2,82 @@ package com.inspection.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.inspection.dto.EntityVersionDTO;
+import com.inspection.dto.FireSafetyInspectionListDTO;
 import com.inspection.entity.FireSafetyInspection;
 
 public interface FireSafetyInspectionRepository extends JpaRepository<FireSafetyInspection, Long> {
-    List<FireSafetyInspection> findByCompany_CompanyId(Long companyId);
     List<FireSafetyInspection> findByWriter_UserId(Long userId);
     List<FireSafetyInspection> findByInspectionDateBetween(LocalDate startDate, LocalDate endDate);
     List<FireSafetyInspection> findByBuildingNameContaining(String buildingName);
+
+    // 최신순 목록 (건수 조회 없이 한 페이지만)
+    List<FireSafetyInspection> findAllByOrderByInspectionDateDescFireInspectionIdDesc(Pageable pageable);
+
+    // 조건부 요청 확인용 (버전 컬럼만 조회)
+    @Query("SELECT new com.inspection.dto.EntityVersionDTO(f.version, f.lastModifiedAt) " +
+           "FROM FireSafetyInspection f WHERE f.fireInspectionId = :id")
+    Optional<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    // 커서 목록 (최신순, idx_fire_inspection_date_id 인덱스 사용). 첫 페이지
+    // 점검일이 없는 행은 MySQL 내림차순에서 NULL이 가장 뒤이므로 목록 끝에 ID 역순으로 나온다
+    @Query("SELECT new com.inspection.dto.FireSafetyInspectionListDTO(" +
+           "f.fireInspectionId, f.buildingName, f.inspectionDate, c.companyName, w.fullName) " +
+           "FROM FireSafetyInspection f LEFT JOIN f.company c LEFT JOIN f.writer w " +
+           "ORDER BY f.inspectionDate DESC, f.fireInspectionId DESC")
+    List<FireSafetyInspectionListDTO> findListFirst(Pageable pageable);
+
+    // 커서 목록. (점검일, ID)가 커서보다 앞선 행부터 (점검일 없는 행 포함)
+    @Query("SELECT new com.inspection.dto.FireSafetyInspectionListDTO(" +
+           "f.fireInspectionId, f.buildingName, f.inspectionDate, c.companyName, w.fullName) " +
+           "FROM FireSafetyInspection f LEFT JOIN f.company c LEFT JOIN f.writer w " +
+           "WHERE f.inspectionDate < :date " +
+           "OR (f.inspectionDate = :date AND f.fireInspectionId < :id) " +
+           "OR f.inspectionDate IS NULL " +
+           "ORDER BY f.inspectionDate DESC, f.fireInspectionId DESC")
+    List<FireSafetyInspectionListDTO> findListAfter(@Param("date") LocalDate date,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 커서 목록. 커서가 점검일 없는 행이면 남은 것도 점검일 없는 행뿐이다
+    @Query("SELECT new com.inspection.dto.FireSafetyInspectionListDTO(" +
+           "f.fireInspectionId, f.buildingName, f.inspectionDate, c.companyName, w.fullName) " +
+           "FROM FireSafetyInspection f LEFT JOIN f.company c LEFT JOIN f.writer w " +
+           "WHERE f.inspectionDate IS NULL AND f.fireInspectionId < :id " +
+           "ORDER BY f.fireInspectionId DESC")
+    List<FireSafetyInspectionListDTO> findListAfterUndated(@Param("id") Long id, Pageable pageable);
+
+    // 업체별 점검 이력 (최신순, idx_fire_inspection_company_date 인덱스 범위 조회). 첫 페이지
+    @Query("SELECT new com.inspection.dto.FireSafetyInspectionListDTO(" +
+           "f.fireInspectionId, f.buildingName, f.inspectionDate, c.companyName, w.fullName) " +
+           "FROM FireSafetyInspection f JOIN f.company c LEFT JOIN f.writer w " +
+           "WHERE c.companyId = :companyId " +
+           "AND f.inspectionDate BETWEEN :from AND :to " +
+           "ORDER BY f.inspectionDate DESC, f.fireInspectionId DESC")
+    List<FireSafetyInspectionListDTO> findCompanyTimelineFirst(@Param("companyId") Long companyId,
+                                                               @Param("from") LocalDate from,
+                                                               @Param("to") LocalDate to,
+                                                               Pageable pageable);
+
+    // 업체별 점검 이력. to는 커서 점검일 이하로 좁혀서 전달
+    @Query("SELECT new com.inspection.dto.FireSafetyInspectionListDTO(" +
+           "f.fireInspectionId, f.buildingName, f.inspectionDate, c.companyName, w.fullName) " +
+           "FROM FireSafetyInspection f JOIN f.company c LEFT JOIN f.writer w " +
+           "WHERE c.companyId = :companyId " +
+           "AND f.inspectionDate BETWEEN :from AND :to " +
+           "AND (f.inspectionDate < :date OR (f.inspectionDate = :date AND f.fireInspectionId < :id)) " +
+           "ORDER BY f.inspectionDate DESC, f.fireInspectionId DESC")
+    List<FireSafetyInspectionListDTO> findCompanyTimelineAfter(@Param("companyId") Long companyId,
+                                                               @Param("from") LocalDate from,
+                                                               @Param("to") LocalDate to,
+                                                               @Param("date") LocalDate date,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
 } 
\ No newline at end of file
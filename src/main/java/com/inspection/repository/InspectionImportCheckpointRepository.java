@@ -0,0 +1,8 @@
+package com.inspection.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.inspection.entity.InspectionImportCheckpoint;
+
+public interface InspectionImportCheckpointRepository extends JpaRepository<InspectionImportCheckpoint, String> {
+}
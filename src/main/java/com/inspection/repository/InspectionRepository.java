@@ -1,11 +1,111 @@
 package com.inspection.repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.inspection.dto.EntityVersionDTO;
+import com.inspection.dto.InspectionBoardDTO;
+import com.inspection.dto.InspectionListDTO;
+import com.inspection.dto.MeasurementAlertDTO;
 import com.inspection.entity.Inspection;
 
 public interface InspectionRepository extends JpaRepository<Inspection, Long> {
-    List<Inspection> findByCompany_CompanyId(Long companyId);
+    // 조건부 요청 확인용 (버전 컬럼만 조회)
+    @Query("SELECT new com.inspection.dto.EntityVersionDTO(i.version, i.lastModifiedAt) " +
+           "FROM Inspection i WHERE i.inspectionId = :id")
+    Optional<EntityVersionDTO> findVersionById(@Param("id") Long id);
+
+    // 목록 화면용 프로젝션: 필요한 컬럼만 조회 (서명/점검내역 컬럼 제외)
+    // 전체 건수도 같은 조인으로 센다 (업체가 없는 점검은 목록에 없으므로 건수에서도 빠져야 페이지 수가 맞다)
+    @Query(value = "SELECT new com.inspection.dto.InspectionBoardDTO(" +
+                   "i.inspectionId, c.companyName, i.inspectionDate, i.managerName) " +
+                   "FROM Inspection i JOIN i.company c",
+           countQuery = "SELECT COUNT(i) FROM Inspection i JOIN i.company c")
+    Page<InspectionBoardDTO> findBoardPage(Pageable pageable);
+
+    // 커서 목록 (최신순, idx_inspection_date_id 인덱스 사용). 첫 페이지
+    // 점검일이 없는 행은 MySQL 내림차순에서 NULL이 가장 뒤이므로 목록 끝에 ID 역순으로 나온다
+    @Query("SELECT new com.inspection.dto.InspectionBoardDTO(" +
+           "i.inspectionId, c.companyName, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i JOIN i.company c " +
+           "ORDER BY i.inspectionDate DESC, i.inspectionId DESC")
+    List<InspectionBoardDTO> findBoardFirst(Pageable pageable);
+
+    // 커서 목록. (점검일, ID)가 커서보다 앞선 행부터 (점검일 없는 행 포함)
+    @Query("SELECT new com.inspection.dto.InspectionBoardDTO(" +
+           "i.inspectionId, c.companyName, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i JOIN i.company c " +
+           "WHERE i.inspectionDate < :date " +
+           "OR (i.inspectionDate = :date AND i.inspectionId < :id) " +
+           "OR i.inspectionDate IS NULL " +
+           "ORDER BY i.inspectionDate DESC, i.inspectionId DESC")
+    List<InspectionBoardDTO> findBoardAfter(@Param("date") LocalDate date,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 커서 목록. 커서가 점검일 없는 행이면 남은 것도 점검일 없는 행뿐이다
+    @Query("SELECT new com.inspection.dto.InspectionBoardDTO(" +
+           "i.inspectionId, c.companyName, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i JOIN i.company c " +
+           "WHERE i.inspectionDate IS NULL AND i.inspectionId < :id " +
+           "ORDER BY i.inspectionId DESC")
+    List<InspectionBoardDTO> findBoardAfterUndated(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new com.inspection.dto.InspectionListDTO(" +
+           "i.inspectionId, i.company.companyId, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i")
+    List<InspectionListDTO> findAllListItems();
+
+    // 업체별 점검 이력 (최신순, idx_inspection_company_date 인덱스 범위 조회). 첫 페이지
+    @Query("SELECT new com.inspection.dto.InspectionListDTO(" +
+           "i.inspectionId, i.company.companyId, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i " +
+           "WHERE i.company.companyId = :companyId " +
+           "AND i.inspectionDate BETWEEN :from AND :to " +
+           "ORDER BY i.inspectionDate DESC, i.inspectionId DESC")
+    List<InspectionListDTO> findCompanyTimelineFirst(@Param("companyId") Long companyId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to,
+                                                     Pageable pageable);
+
+    // 업체별 점검 이력. to는 커서 점검일 이하로 좁혀서 전달 (범위 스캔이 커서 위치에서 시작하도록)
+    @Query("SELECT new com.inspection.dto.InspectionListDTO(" +
+           "i.inspectionId, i.company.companyId, i.inspectionDate, i.managerName) " +
+           "FROM Inspection i " +
+           "WHERE i.company.companyId = :companyId " +
+           "AND i.inspectionDate BETWEEN :from AND :to " +
+           "AND (i.inspectionDate < :date OR (i.inspectionDate = :date AND i.inspectionId < :id)) " +
+           "ORDER BY i.inspectionDate DESC, i.inspectionId DESC")
+    List<InspectionListDTO> findCompanyTimelineAfter(@Param("companyId") Long companyId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to,
+                                                     @Param("date") LocalDate date,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    // 일괄 내보내기 대상 ID만 조회 (엔티티 로딩 없이)
+    @Query("SELECT i.inspectionId FROM Inspection i " +
+           "WHERE i.company.companyId = :companyId " +
+           "AND i.inspectionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY i.inspectionDate, i.inspectionId")
+    List<Long> findIdsByCompanyAndDateRange(@Param("companyId") Long companyId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    // 기준 온도 이상 측정값 (companyId가 null이면 전체 업체)
+    @Query("SELECT new com.inspection.dto.MeasurementAlertDTO(" +
+           "i.inspectionId, c.companyName, i.inspectionDate, m.pointNo, m.location, m.phase, m.temperature) " +
+           "FROM Inspection i JOIN i.company c JOIN i.measurements m " +
+           "WHERE m.temperature >= :threshold " +
+           "AND (:companyId IS NULL OR c.companyId = :companyId) " +
+           "ORDER BY m.temperature DESC, i.inspectionDate DESC")
+    List<MeasurementAlertDTO> findMeasurementsOverTemperature(@Param("threshold") double threshold,
+                                                              @Param("companyId") Long companyId);
 } 
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.inspection.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.inspection.entity.LegacyMigration;
+
+public interface LegacyMigrationRepository extends JpaRepository<LegacyMigration, Long> {
+}
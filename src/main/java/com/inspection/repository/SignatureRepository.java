@@ -0,0 +1,8 @@
+package com.inspection.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.inspection.entity.Signature;
+
+public interface SignatureRepository extends JpaRepository<Signature, String> {
+}
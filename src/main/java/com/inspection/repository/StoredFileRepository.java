@@ -0,0 +1,20 @@
+package com.inspection.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inspection.entity.StoredFile;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+    // 참조가 없어진 지 유예 시간이 지난 파일 (idx_stored_files_unreferenced 사용)
+    @Query("SELECT f FROM StoredFile f WHERE f.refCount = 0 AND f.lastSeenAt < :before ORDER BY f.lastSeenAt")
+    List<StoredFile> findUnreferenced(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("SELECT f.storageKey FROM StoredFile f WHERE f.storageKey IN :keys")
+    List<String> findExistingKeys(@Param("keys") List<String> keys);
+}
@@ -0,0 +1,25 @@
+package com.inspection.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inspection.entity.UploadSession;
+import com.inspection.storage.StorageArea;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    // 만료된 업로드 (idx_upload_session_expires 사용)
+    @Query("SELECT s FROM UploadSession s WHERE s.expiresAt < :now ORDER BY s.expiresAt")
+    List<UploadSession> findExpired(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 이 사용자가 완료한(만료 전) 업로드 중 주어진 저장소 파일명
+    @Query("SELECT s.storedName FROM UploadSession s WHERE s.userId = :userId AND s.area = :area " +
+           "AND s.status = 'COMPLETED' AND s.expiresAt > :now AND s.storedName IN :names")
+    List<String> findCompletedNames(@Param("userId") Long userId, @Param("area") StorageArea area,
+                                    @Param("names") Collection<String> names, @Param("now") LocalDateTime now);
+}
@@ -2,10 +2,16 @@ package com.inspection.repository;
 
 import com.inspection.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    // 일괄 가져오기용 아이디 -> ID 조회표 ([userId, username])
+    @Query("SELECT u.userId, u.username FROM User u")
+    List<Object[]> findAllIdAndUsername();
 } 
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.inspection.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 불량률 집계표가 비어 있는데 점검 이력이 있으면(집계표 도입 직후) 한 번 채운다 */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChecklistSummaryInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChecklistSummaryService checklistSummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!checklistSummaryService.isEmpty()) {
+            return;
+        }
+        Boolean hasInspections = jdbcTemplate.queryForObject(
+            "SELECT EXISTS(SELECT 1 FROM inspection WHERE company_id IS NOT NULL AND inspection_date IS NOT NULL)",
+            Boolean.class);
+        if (Boolean.TRUE.equals(hasInspections)) {
+            log.info("점검내역 집계표가 비어 있어 기존 점검으로 재생성합니다");
+            checklistSummaryService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.inspection.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inspection.dto.DefectRateDTO;
+import com.inspection.entity.ChecklistItem;
+import com.inspection.entity.Inspection;
+import com.inspection.repository.ChecklistDefectSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 점검내역 불량률 집계표(checklist_defect_summary) 관리
+ * 점검이 바뀔 때 전후 차이만큼만 upsert로 증감하므로(호출자 트랜잭션 안에서) 통계 조회는 이력 크기와 무관하다.
+ * 집계표가 어긋났을 때는 rebuild()로 inspection 테이블에서 GROUP BY 한 번으로 다시 만든다. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChecklistSummaryService {
+
+    public enum GroupBy { COMPANY, MONTH, ITEM }
+
+    private static final String UPSERT =
+        "INSERT INTO checklist_defect_summary " +
+        "(company_id, summary_month, item, total_count, pass_count, fail_count, na_count) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "total_count = total_count + VALUES(total_count), " +
+        "pass_count = pass_count + VALUES(pass_count), " +
+        "fail_count = fail_count + VALUES(fail_count), " +
+        "na_count = na_count + VALUES(na_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChecklistDefectSummaryRepository summaryRepository;
+
+    /* 집계에 반영되는 점검 값. 업체나 점검일이 없으면 집계하지 않으므로 null */
+    public record Snapshot(Long companyId, LocalDate month, Character[] values) {
+        public static Snapshot of(Inspection inspection) {
+            if (inspection == null || inspection.getCompany() == null || inspection.getInspectionDate() == null) {
+                return null;
+            }
+            ChecklistItem[] items = ChecklistItem.values();
+            Character[] values = new Character[items.length];
+            for (ChecklistItem item : items) {
+                values[item.ordinal()] = item.valueOf(inspection);
+            }
+            return new Snapshot(inspection.getCompany().getCompanyId(),
+                inspection.getInspectionDate().withDayOfMonth(1), values);
+        }
+    }
+
+    private record Bucket(Long companyId, LocalDate month, ChecklistItem item) {}
+
+    /* 변경 전후 차이를 반영 (생성은 before = null, 삭제는 after = null) */
+    public void applyChange(Snapshot before, Snapshot after) {
+        Map<Bucket, long[]> deltas = new LinkedHashMap<>();
+        accumulate(deltas, before, -1);
+        accumulate(deltas, after, 1);
+        upsert(deltas);
+    }
+
+    /* 새로 저장된 점검 여러 건을 한 번에 반영 (일괄 가져오기) */
+    public void applyCreated(Collection<Snapshot> created) {
+        Map<Bucket, long[]> deltas = new LinkedHashMap<>();
+        for (Snapshot snapshot : created) {
+            accumulate(deltas, snapshot, 1);
+        }
+        upsert(deltas);
+    }
+
+    /* 집계표 전체 재생성 (inspection 테이블을 항목별로 GROUP BY) */
+    @Transactional
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        jdbcTemplate.update("DELETE FROM checklist_defect_summary");
+
+        StringJoiner selects = new StringJoiner(" UNION ALL ");
+        for (ChecklistItem item : ChecklistItem.values()) {
+            String column = item.getColumn();
+            selects.add(
+                "SELECT company_id, DATE_FORMAT(inspection_date, '%Y-%m-01'), '" + item.name() + "', COUNT(*), " +
+                "COALESCE(SUM(" + column + " = 'O'), 0), " +
+                "COALESCE(SUM(" + column + " = 'X'), 0), " +
+                "COALESCE(SUM(" + column + " = '/'), 0) " +
+                "FROM inspection WHERE company_id IS NOT NULL AND inspection_date IS NOT NULL " +
+                "GROUP BY company_id, DATE_FORMAT(inspection_date, '%Y-%m-01')");
+        }
+        int rows = jdbcTemplate.update(
+            "INSERT INTO checklist_defect_summary " +
+            "(company_id, summary_month, item, total_count, pass_count, fail_count, na_count) " + selects);
+        log.info("점검내역 집계표 재생성 완료: {}행, {}ms", rows, System.currentTimeMillis() - started);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return summaryRepository.count() == 0;
+    }
+
+    /* 기간(월 단위, 양 끝 포함) 불량률. companyId가 있으면 해당 업체만 */
+    @Transactional(readOnly = true)
+    public List<DefectRateDTO> getDefectRates(GroupBy groupBy, YearMonth from, YearMonth to, Long companyId) {
+        LocalDate start = from.atDay(1);
+        LocalDate end = to.atDay(1);
+        return switch (groupBy) {
+            case COMPANY -> summaryRepository.findRatesByCompany(start, end, companyId);
+            case MONTH -> summaryRepository.findRatesByMonth(start, end, companyId);
+            case ITEM -> summaryRepository.findRatesByItem(start, end, companyId);
+        };
+    }
+
+    private void accumulate(Map<Bucket, long[]> deltas, Snapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        for (ChecklistItem item : ChecklistItem.values()) {
+            long[] delta = deltas.computeIfAbsent(
+                new Bucket(snapshot.companyId(), snapshot.month(), item), key -> new long[4]);
+            delta[0] += sign;   // total
+            Character value = snapshot.values()[item.ordinal()];
+            if (value != null) {
+                switch (value) {
+                    case 'O' -> delta[1] += sign;
+                    case 'X' -> delta[2] += sign;
+                    case '/' -> delta[3] += sign;
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    private void upsert(Map<Bucket, long[]> deltas) {
+        List<Map.Entry<Bucket, long[]>> changed = new ArrayList<>();
+        for (Map.Entry<Bucket, long[]> entry : deltas.entrySet()) {
+            long[] d = entry.getValue();
+            if (d[0] != 0 || d[1] != 0 || d[2] != 0 || d[3] != 0) {
+                changed.add(entry);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;     // 점검내역/업체/점검월이 바뀌지 않은 수정
+        }
+        jdbcTemplate.batchUpdate(UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Bucket bucket = changed.get(i).getKey();
+                long[] d = changed.get(i).getValue();
+                ps.setLong(1, bucket.companyId());
+                ps.setDate(2, Date.valueOf(bucket.month()));
+                ps.setString(3, bucket.item().name());
+                ps.setLong(4, d[0]);
+                ps.setLong(5, d[1]);
+                ps.setLong(6, d[2]);
+                ps.setLong(7, d[3]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changed.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,338 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.dto.UploadSessionDTO;
+import com.inspection.entity.UploadSession;
+import com.inspection.exception.InvalidUploadException;
+import com.inspection.exception.UploadConflictException;
+import com.inspection.exception.UploadNotFoundException;
+import com.inspection.repository.UploadSessionRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 이어받기(chunked) 업로드
+ * 시작(init) -> 조각 PUT(offset 지정) -> 완료(complete) 순서로, 조각은 요청 본문을 그대로 조각 파일의 해당 위치에
+ * 스트리밍해 메모리에 모으지 않는다. 조각이 fsync된 뒤에만 receivedBytes를 늘리므로, 연결이 끊기면 상태 조회로
+ * 받은 위치를 확인해 빠진 부분만 다시 보내면 된다 (중간에 끊긴 조각도 받은 만큼은 인정한다).
+ * 완료되면 StorageService가 해시를 계산해 일반 업로드와 같은 저장소 키로 옮기고, 그 키를 점검 DTO에 넣는다.
+ * 키는 옮기기 전에 상태 행에 먼저 기록하므로, 옮긴 뒤 완료 기록이 실패해도 완료를 다시 호출하면 이어서 끝난다
+ * (키가 기록된 뒤에는 조각 파일이 바뀌지 않도록 조각 PUT을 받지 않는다).
+ * 완료된 업로드는 업로드 상태가 만료될 때까지 참조 하나를 잡고 있어, 점검을 늦게 저장해도 정리(GC)되지 않는다.
+ * 점검 DTO에는 이 사용자가 완료한 업로드의 키만 넣을 수 있다 (requireCompleted). */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedUploadService {
+
+    private static final String OPEN = "OPEN";
+    private static final String COMPLETED = "COMPLETED";
+
+    // 점검 사진 묶음용 (공지/문의는 기존 multipart 업로드만 사용)
+    private static final Set<StorageArea> ALLOWED_AREAS =
+        Set.of(StorageArea.INSPECTION_IMAGES, StorageArea.FIRE_SAFETY_IMAGES);
+
+    @Value("${upload.chunked.dir:upload-parts}")
+    private String dir;
+
+    @Value("${upload.chunked.max-file-size:104857600}")
+    private long maxFileSize;
+
+    @Value("${upload.chunked.max-chunk-size:8388608}")
+    private long maxChunkSize;
+
+    @Value("${upload.chunked.expire-hours:24}")
+    private long expireHours;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final StoredFileService storedFileService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 같은 업로드에 동시에 쓰지 않도록 (조각 PUT과 완료 모두)
+    private final Set<String> busy = ConcurrentHashMap.newKeySet();
+
+    private Path partsPath;
+
+    @PostConstruct
+    public void init() throws IOException {
+        partsPath = Paths.get(dir).toAbsolutePath().normalize();
+        Files.createDirectories(partsPath);
+    }
+
+    /* 업로드 시작 */
+    public UploadSessionDTO start(Long userId, StorageArea area, String fileName, long size) {
+        if (!ALLOWED_AREAS.contains(area)) {
+            throw new InvalidUploadException("이어받기 업로드를 지원하지 않는 영역입니다: " + area);
+        }
+        if (size <= 0 || size > maxFileSize) {
+            throw new InvalidUploadException("파일 크기는 1 ~ " + maxFileSize + " 바이트여야 합니다");
+        }
+        if (fileName == null || fileName.isBlank() || fileName.length() > 255) {
+            throw new InvalidUploadException("파일명이 올바르지 않습니다");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadSession session = new UploadSession();
+        session.setUploadId(UUID.randomUUID().toString());
+        session.setUserId(userId);
+        session.setArea(area);
+        session.setFileName(fileName);
+        session.setTotalSize(size);
+        session.setReceivedBytes(0);
+        session.setStatus(OPEN);
+        session.setCreatedAt(now);
+        session.setUpdatedAt(now);
+        session.setExpiresAt(now.plusHours(expireHours));
+        return toDTO(uploadSessionRepository.save(session));
+    }
+
+    /* 진행 상태 (재시작 시 offset부터 보내면 된다) */
+    public UploadSessionDTO getStatus(Long userId, String uploadId) {
+        return toDTO(find(userId, uploadId));
+    }
+
+    /* 조각 기록. offset은 받은 위치 이하여야 하며(이미 받은 부분을 다시 보내는 것은 허용), 본문 길이는 최대 조각 크기 이하 */
+    public UploadSessionDTO writeChunk(Long userId, String uploadId, long offset,
+                                       InputStream body, long contentLength) throws IOException {
+        acquire(userId, uploadId);
+        try {
+            UploadSession session = find(userId, uploadId);
+            if (COMPLETED.equals(session.getStatus()) || session.getStoredName() != null) {
+                throw new UploadConflictException("이미 완료(처리 중)된 업로드입니다", session.getReceivedBytes());
+            }
+            if (offset < 0 || offset > session.getReceivedBytes()) {
+                throw new UploadConflictException(
+                    "받은 위치(" + session.getReceivedBytes() + ")부터 보내야 합니다", session.getReceivedBytes());
+            }
+            long limit = Math.min(maxChunkSize, session.getTotalSize() - offset);
+            if (contentLength > limit) {
+                throw new InvalidUploadException("조각이 너무 큽니다 (최대 " + limit + " 바이트)");
+            }
+
+            long[] written = {0};
+            IOException failure = null;
+            try (FileChannel channel = FileChannel.open(partPath(uploadId),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                try {
+                    copy(body, channel, offset, limit, written);
+                } catch (IOException e) {
+                    failure = e;    // 끊기기 전까지 받은 부분은 기록해 둔다
+                }
+                channel.force(false);
+            }
+
+            // fsync 이후에만 진행 위치를 늘린다
+            long received = Math.max(session.getReceivedBytes(), offset + written[0]);
+            if (received != session.getReceivedBytes()) {
+                session.setReceivedBytes(received);
+                session.setUpdatedAt(LocalDateTime.now());
+                session = uploadSessionRepository.save(session);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return toDTO(session);
+        } finally {
+            busy.remove(uploadId);
+        }
+    }
+
+    /* 완료: 모든 바이트를 받았으면 저장소로 옮기고 저장소 키를 돌려준다 (다시 호출해도 같은 키) */
+    public UploadSessionDTO complete(Long userId, String uploadId) throws IOException {
+        acquire(userId, uploadId);
+        try {
+            UploadSession session = find(userId, uploadId);
+            if (COMPLETED.equals(session.getStatus())) {
+                return toDTO(session);
+            }
+            if (session.getReceivedBytes() != session.getTotalSize()) {
+                throw new UploadConflictException("아직 받지 못한 부분이 있습니다", session.getReceivedBytes());
+            }
+            Path part = partPath(uploadId);
+            // 옮기기 전에 키부터 기록 (아래 완료 기록이 실패해도 다시 호출하면 이 키로 이어서 완료)
+            if (session.getStoredName() == null) {
+                session.setStoredName(storageService.keyOf(session.getArea(), part, session.getFileName()).name());
+                session.setUpdatedAt(LocalDateTime.now());
+                session = uploadSessionRepository.save(session);
+            }
+            StorageKey key = StorageKey.of(session.getArea(), session.getStoredName());
+            if (Files.exists(part)) {
+                storageService.storeFile(key, part);
+                if (session.getArea().hasDerivatives()) {
+                    imageDerivativeService.createDerivativesAsync(storageService.resolve(key));
+                }
+            } else if (!Files.isRegularFile(storageService.resolve(key))) {
+                // 이전 시도에서 옮긴 파일이 참조 없이 오래 남아 정리된 경우: 처음부터 다시 받는다
+                session.setStoredName(null);
+                session.setReceivedBytes(0);
+                session.setUpdatedAt(LocalDateTime.now());
+                uploadSessionRepository.save(session);
+                throw new UploadConflictException("업로드 파일이 정리되어 처음부터 다시 보내야 합니다", 0);
+            }
+
+            UploadSession opened = session;
+            opened.setStatus(COMPLETED);
+            opened.setUpdatedAt(LocalDateTime.now());
+            // 완료 상태와 참조(고정)를 함께 기록
+            UploadSession completed = transactionTemplate.execute(status -> {
+                storedFileService.applyChange(opened.getArea(), null, List.of(key.name()));
+                return uploadSessionRepository.save(opened);
+            });
+            return toDTO(completed);
+        } finally {
+            busy.remove(uploadId);
+        }
+    }
+
+    /* 취소: 조각 파일과 상태를 지운다 */
+    public void cancel(Long userId, String uploadId) throws IOException {
+        acquire(userId, uploadId);
+        try {
+            UploadSession session = find(userId, uploadId);
+            Files.deleteIfExists(partPath(uploadId));
+            delete(session);
+        } finally {
+            busy.remove(uploadId);
+        }
+    }
+
+    /* 만료된 업로드 정리 (완료된 업로드는 상태 행만, 미완료는 조각 파일도) */
+    @Scheduled(fixedDelayString = "${upload.chunked.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        List<UploadSession> expired;
+        do {
+            expired = uploadSessionRepository.findExpired(LocalDateTime.now(), PageRequest.of(0, 100));
+            for (UploadSession session : expired) {
+                if (!busy.add(session.getUploadId())) {
+                    return;     // 지금 기록 중이면 다음 주기에
+                }
+                try {
+                    Files.deleteIfExists(partPath(session.getUploadId()));
+                    delete(session);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("만료된 업로드 정리 실패: {} ({})", session.getUploadId(), e.getMessage());
+                    return;     // 다음 주기에 다시
+                } finally {
+                    busy.remove(session.getUploadId());
+                }
+            }
+        } while (expired.size() == 100);
+    }
+
+    /* 점검 DTO에 직접 넣은 저장소 키 확인
+     * 이미 그 점검에 있던 파일(current)이 아니면, 이 사용자가 완료한 만료 전 업로드의 키이고 파일이 있어야 한다 (아니면 400).
+     * 다른 게시물의 파일이나 이미 정리된 파일을 가리켜 참조 수가 어긋나지 않도록 한다. */
+    public void requireCompleted(Long userId, StorageArea area, Collection<String> names, Collection<String> current) {
+        if (names == null) {
+            return;
+        }
+        Set<String> requested = new LinkedHashSet<>(names);
+        if (current != null) {
+            requested.removeAll(current);
+        }
+        if (requested.isEmpty()) {
+            return;
+        }
+        if (userId == null) {
+            throw new InvalidUploadException("로그인한 사용자만 이어받기 업로드 파일을 첨부할 수 있습니다");
+        }
+        Set<String> completed = new HashSet<>(
+            uploadSessionRepository.findCompletedNames(userId, area, requested, LocalDateTime.now()));
+        for (String name : requested) {
+            if (!completed.contains(name) || !Files.isRegularFile(storageService.resolve(StorageKey.of(area, name)))) {
+                throw new InvalidUploadException("완료된 이어받기 업로드가 아닌 파일입니다: " + name);
+            }
+        }
+    }
+
+    /* 상태 행 삭제. 완료된 업로드면 잡고 있던 참조도 함께 놓는다 */
+    private void delete(UploadSession session) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (COMPLETED.equals(session.getStatus()) && session.getStoredName() != null) {
+                storedFileService.applyChange(session.getArea(), List.of(session.getStoredName()), null);
+            }
+            uploadSessionRepository.delete(session);
+        });
+    }
+
+    /* 같은 업로드를 동시에 처리하지 않도록 표시 (이미 처리 중이면 409) */
+    private void acquire(Long userId, String uploadId) {
+        if (!busy.add(uploadId)) {
+            throw new UploadConflictException("같은 업로드를 다른 요청이 기록 중입니다",
+                find(userId, uploadId).getReceivedBytes());
+        }
+    }
+
+    private UploadSession find(Long userId, String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+            .orElseThrow(() -> new UploadNotFoundException(uploadId));
+        if (!session.getUserId().equals(userId) || session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new UploadNotFoundException(uploadId);
+        }
+        return session;
+    }
+
+    /* uploadId는 서버가 만든 UUID만 받으므로 경로 조작이 불가능하다 */
+    private Path partPath(String uploadId) {
+        return partsPath.resolve(UUID.fromString(uploadId) + ".part");
+    }
+
+    /* 본문을 offset 위치부터 최대 limit 바이트까지 기록. 더 많이 오면 400
+     * 기록한 바이트 수는 written[0]에 계속 반영하므로 읽다가 끊겨도 호출자가 그만큼은 인정할 수 있다 */
+    private static void copy(InputStream body, FileChannel channel, long offset, long limit,
+                             long[] written) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = body.read(buffer, 0, (int) Math.min(buffer.length, limit - written[0] + 1))) != -1) {
+            if (written[0] + read > limit) {
+                throw new InvalidUploadException("조각이 너무 큽니다 (최대 " + limit + " 바이트)");
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                written[0] += channel.write(chunk, offset + written[0]);
+            }
+        }
+    }
+
+    private UploadSessionDTO toDTO(UploadSession session) {
+        UploadSessionDTO dto = new UploadSessionDTO();
+        dto.setUploadId(session.getUploadId());
+        dto.setArea(session.getArea());
+        dto.setFileName(session.getFileName());
+        dto.setSize(session.getTotalSize());
+        dto.setOffset(session.getReceivedBytes());
+        dto.setMaxChunkSize(maxChunkSize);
+        dto.setStatus(session.getStatus());
+        dto.setStorageKey(COMPLETED.equals(session.getStatus()) ? session.getStoredName() : null);
+        dto.setExpiresAt(session.getExpiresAt());
+        return dto;
+    }
+}
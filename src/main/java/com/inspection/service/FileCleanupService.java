@@ -0,0 +1,190 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.entity.FileDeletion;
+import com.inspection.repository.FileDeletionRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 파일 지연 삭제
+ * 삭제 요청은 호출자 트랜잭션 안에서 file_deletion_queue에 한 번의 배치 insert로 기록만 하고,
+ * 커밋 후 백그라운드 스레드가 배치 단위로 파일을 지운다. 실패한 항목은 간격을 늘려 가며 재시도한다.
+ * 요청 처리 시간은 첨부 개수와 무관하고, 롤백되면 파일도 그대로 남는다. */
+@Service
+@Slf4j
+public class FileCleanupService {
+
+    private static final String INSERT =
+        "INSERT INTO file_deletion_queue (path, attempts, next_attempt_at, created_at) VALUES (?, 0, ?, ?)";
+
+    @Value("${file-cleanup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${file-cleanup.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${file-cleanup.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageDerivativeService imageDerivativeService;
+    private final StorageService storageService;
+    private final ThreadPoolTaskExecutor fileCleanupExecutor;
+
+    // 스케줄러와 커밋 후 호출이 겹쳐도 한 번에 하나만 비운다
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public FileCleanupService(
+        FileDeletionRepository fileDeletionRepository,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ImageDerivativeService imageDerivativeService,
+        StorageService storageService,
+        @Qualifier("fileCleanupExecutor") ThreadPoolTaskExecutor fileCleanupExecutor
+    ) {
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.imageDerivativeService = imageDerivativeService;
+        this.storageService = storageService;
+        this.fileCleanupExecutor = fileCleanupExecutor;
+    }
+
+    /* 저장 영역의 파일들을 삭제 대기열에 추가 (저장소 키가 될 수 없는 이름은 무시) */
+    public void enqueue(StorageArea area, Collection<String> fileNames) {
+        insert(resolve(area, fileNames, false));
+    }
+
+    /* 점검 첨부 이미지처럼 파생본(축소 JPEG)이 있는 원본을 파생본과 함께 삭제 대기열에 추가 */
+    public void enqueueWithDerivatives(StorageArea area, Collection<String> fileNames) {
+        insert(resolve(area, fileNames, true));
+    }
+
+    /* 주기적으로 대기열을 비운다 (커밋 직후 실행이 누락되었거나 재시도 대기 중인 항목) */
+    @Scheduled(fixedDelayString = "${file-cleanup.interval-ms:60000}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<FileDeletion> batch;
+            do {
+                batch = fileDeletionRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+                deleteBatch(batch);
+            } while (batch.size() == batchSize);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void deleteBatch(List<FileDeletion> batch) {
+        List<Long> done = new ArrayList<>();
+        List<FileDeletion> failed = new ArrayList<>();
+        for (FileDeletion deletion : batch) {
+            try {
+                Files.deleteIfExists(Paths.get(deletion.getPath()));
+                done.add(deletion.getId());
+            } catch (IOException | RuntimeException e) {
+                int attempts = deletion.getAttempts() + 1;
+                deletion.setAttempts(attempts);
+                deletion.setNextAttemptAt(LocalDateTime.now().plus(retryDelay(attempts)));
+                deletion.setLastError(truncate(e.toString()));
+                failed.add(deletion);
+                if (attempts >= maxAttempts) {
+                    log.error("파일 삭제 {}회 실패, 재시도 중단 (file_deletion_queue id={}): {}",
+                        attempts, deletion.getId(), deletion.getPath(), e);
+                } else {
+                    log.warn("파일 삭제 실패, {}회째 재시도 예정: {} ({})", attempts, deletion.getPath(), e.getMessage());
+                }
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                fileDeletionRepository.deleteAllByIdInBatch(done);
+            }
+            if (!failed.isEmpty()) {
+                fileDeletionRepository.saveAll(failed);
+            }
+        });
+    }
+
+    private List<Path> resolve(StorageArea area, Collection<String> fileNames, boolean withDerivatives) {
+        List<Path> paths = new ArrayList<>();
+        for (String fileName : fileNames) {
+            if (!StorageKey.isValidName(fileName)) {
+                log.warn("저장소 키가 아닌 파일명은 삭제하지 않습니다: {}", fileName);
+                continue;
+            }
+            Path path = storageService.resolve(StorageKey.of(area, fileName));
+            paths.add(path);
+            if (withDerivatives) {
+                paths.addAll(imageDerivativeService.derivativePaths(path));
+            }
+        }
+        return paths;
+    }
+
+    private void insert(List<Path> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            rows.add(new Object[]{path.toString(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        drainAfterCommit();
+    }
+
+    /* 커밋되면 바로 비우기 시작 (이미 예약되어 있으면 합쳐진다). 트랜잭션 밖이면 즉시 */
+    private void drainAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fileCleanupExecutor.execute(this::drain);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fileCleanupExecutor.execute(FileCleanupService.this::drain);
+            }
+        });
+    }
+
+    /* 재시도 간격: base * 2^(attempts-1), 최대 6시간 */
+    private Duration retryDelay(int attempts) {
+        long seconds = retryBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, Duration.ofHours(6).toSeconds()));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
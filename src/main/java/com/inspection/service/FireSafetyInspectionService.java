@@ -3,23 +3,28 @@ package com.inspection.service;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.entity.Company;
 import com.inspection.entity.FireSafetyInspection;
 import com.inspection.entity.User;
+import com.inspection.exception.FireSafetyInspectionNotFoundException;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.repository.FireSafetyInspectionRepository;
 import com.inspection.repository.UserRepository;
 import com.inspection.dto.FireSafetyInspectionDTO;
 import com.inspection.dto.FireSafetyInspectionCreateDTO;
 import com.inspection.dto.FireSafetyInspectionUpdateDTO;
+import com.inspection.dto.CursorPageDTO;
+import com.inspection.dto.EntityVersionDTO;
+import com.inspection.dto.FireSafetyInspectionListDTO;
+import com.inspection.util.CursorCodec;
+import com.inspection.report.ReportType;
+import com.inspection.storage.StorageArea;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,23 +35,64 @@ public class FireSafetyInspectionService {
     private final FireSafetyInspectionRepository fireSafetyInspectionRepository;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
+    private final PdfCacheService pdfCacheService;
+    private final StoredFileService storedFileService;
+    private final SignatureService signatureService;
+    private final SearchIndexService searchIndexService;
 
-    // 전체 점검 목록 조회
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // 점검 목록 조회 (최신순 최대 size건, 상한 MAX_SCROLL_SIZE). 더 오래된 점검은 커서 목록으로 조회
     @Transactional(readOnly = true)
-    public List<FireSafetyInspectionDTO> getAllInspections() {
-        return fireSafetyInspectionRepository.findAll().stream()
+    public List<FireSafetyInspectionDTO> getAllInspections(int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        return fireSafetyInspectionRepository
+            .findAllByOrderByInspectionDateDescFireInspectionIdDesc(PageRequest.of(0, limit)).stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    // 커서 기반 목록 (최신순). cursor가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public CursorPageDTO<FireSafetyInspectionListDTO> scrollInspections(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<FireSafetyInspectionListDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = fireSafetyInspectionRepository.findListFirst(page);
+        } else {
+            CursorCodec.Cursor after = CursorCodec.decode(cursor);
+            rows = after.date() != null
+                ? fireSafetyInspectionRepository.findListAfter(after.date(), after.id(), page)
+                : fireSafetyInspectionRepository.findListAfterUndated(after.id(), page);
+        }
+        return CursorPageDTO.of(rows, limit,
+            last -> CursorCodec.encode(last.getInspectionDate(), last.getFireInspectionId()));
+    }
+
     // 단일 점검 조회
     @Transactional(readOnly = true)
     public FireSafetyInspectionDTO getInspectionById(Long id) {
         FireSafetyInspection inspection = fireSafetyInspectionRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("점검 기록을 찾을 수 없습니다. ID: " + id));
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
         return convertToDTO(inspection);
     }
 
+    /* 저장된 첨부 파일명 (수정 요청에 새로 들어온 파일명을 가려내는 데 사용) */
+    @Transactional(readOnly = true)
+    public List<String> getAttachmentNames(Long id) {
+        FireSafetyInspection inspection = fireSafetyInspectionRepository.findById(id)
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
+        return inspection.getAttachments() == null ? List.of() : inspection.getAttachments();
+    }
+
+    /* 조건부 요청 확인용 버전 (DTO를 만들지 않음) */
+    @Transactional(readOnly = true)
+    public EntityVersionDTO getInspectionVersion(Long id) {
+        return fireSafetyInspectionRepository.findVersionById(id)
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
+    }
+
     // 점검 생성
     @Transactional
     public FireSafetyInspectionDTO createInspection(FireSafetyInspectionCreateDTO dto) {
@@ -69,13 +115,15 @@ public class FireSafetyInspectionService {
         inspection.setFireWaterStatus(dto.getFireWaterStatus());
         inspection.setFireFightingStatus(dto.getFireFightingStatus());
         inspection.setEtcComment(dto.getEtcComment());
-        inspection.setInspectorSignature(dto.getInspectorSignature());
-        inspection.setManagerSignature(dto.getManagerSignature());
+        inspection.setInspectorSignatureId(signatureService.store(dto.getInspectorSignature()));
+        inspection.setManagerSignatureId(signatureService.store(dto.getManagerSignature()));
         inspection.setAttachments(dto.getAttachments());
         inspection.setCreatedAt(LocalDate.now());
         inspection.setUpdatedAt(LocalDate.now());
         
         FireSafetyInspection savedInspection = fireSafetyInspectionRepository.save(inspection);
+        storedFileService.applyChange(StorageArea.FIRE_SAFETY_IMAGES, null, dto.getAttachments());
+        searchIndexService.indexAfterCommit(SearchIndexService.Entry.of(savedInspection));
         return convertToDTO(savedInspection);
     }
 
@@ -96,11 +144,15 @@ public class FireSafetyInspectionService {
         dto.setFireWaterStatus(inspection.getFireWaterStatus());
         dto.setFireFightingStatus(inspection.getFireFightingStatus());
         dto.setEtcComment(inspection.getEtcComment());
-        dto.setInspectorSignature(inspection.getInspectorSignature());
-        dto.setManagerSignature(inspection.getManagerSignature());
+        dto.setInspectorSignatureId(inspection.getInspectorSignatureId());
+        dto.setManagerSignatureId(inspection.getManagerSignatureId());
+        dto.setInspectorSignature(SignatureService.url(inspection.getInspectorSignatureId()));
+        dto.setManagerSignature(SignatureService.url(inspection.getManagerSignatureId()));
         dto.setAttachments(inspection.getAttachments());
         dto.setCreatedAt(inspection.getCreatedAt());
         dto.setUpdatedAt(inspection.getUpdatedAt());
+        dto.setVersion(inspection.getVersion());
+        dto.setLastModifiedAt(inspection.getLastModifiedAt());
         return dto;
     }
 
@@ -108,7 +160,7 @@ public class FireSafetyInspectionService {
     @Transactional
     public FireSafetyInspectionDTO updateInspection(Long id, FireSafetyInspectionUpdateDTO dto) {
         FireSafetyInspection existingInspection = fireSafetyInspectionRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("점검 기록을 찾을 수 없습니다. ID: " + id));
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
         
         // 기본 정보 업데이트
         existingInspection.setBuildingName(dto.getBuildingName());
@@ -121,51 +173,55 @@ public class FireSafetyInspectionService {
         existingInspection.setFireWaterStatus(dto.getFireWaterStatus());
         existingInspection.setFireFightingStatus(dto.getFireFightingStatus());
         existingInspection.setEtcComment(dto.getEtcComment());
-        existingInspection.setInspectorSignature(dto.getInspectorSignature());
-        existingInspection.setManagerSignature(dto.getManagerSignature());
+        existingInspection.setInspectorSignatureId(signatureService.store(dto.getInspectorSignature()));
+        existingInspection.setManagerSignatureId(signatureService.store(dto.getManagerSignature()));
         
-        // 새로운 이미지가 있다면 attachments 업데이트
+        // 새로운 이미지가 있다면 attachments 업데이트 (빠진 첨부는 참조 수만 줄인다)
         if (dto.getAttachments() != null) {
+            storedFileService.applyChange(StorageArea.FIRE_SAFETY_IMAGES,
+                existingInspection.getAttachments(), dto.getAttachments());
             existingInspection.setAttachments(dto.getAttachments());
         }
         
         existingInspection.setUpdatedAt(LocalDate.now());
         
-        FireSafetyInspection savedInspection = fireSafetyInspectionRepository.save(existingInspection);
+        FireSafetyInspection savedInspection = fireSafetyInspectionRepository.saveAndFlush(existingInspection);
+        searchIndexService.indexAfterCommit(SearchIndexService.Entry.of(savedInspection));
+        pdfCacheService.invalidateAfterCommit(ReportType.FIRE_SAFETY, id);
         return convertToDTO(savedInspection);
     }
 
-    private void deleteImage(String fileName) {
-        try {
-            Path imagePath = Paths.get("uploads/fire-safety-images/" + fileName);
-            Files.deleteIfExists(imagePath);
-        } catch (IOException e) {
-            throw new RuntimeException("이미지 파일 삭제 중 오류 발생", e);
-        }
-    }
-
     // 점검 삭제
     @Transactional
     public void deleteInspection(Long id) {
         FireSafetyInspection inspection = fireSafetyInspectionRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("점검 기록을 찾을 수 없습니다. ID: " + id));
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
         
-        // 이미지 파일 삭제
-        if (inspection.getAttachments() != null && !inspection.getAttachments().isEmpty()) {
-            for (String image : inspection.getAttachments()) {
-                deleteImage(image);
-            }
-        }
+        // 첨부 참조 해제 (다른 점검이 같은 파일을 쓰지 않으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.FIRE_SAFETY_IMAGES, inspection.getAttachments(), null);
         
         fireSafetyInspectionRepository.delete(inspection);
+        searchIndexService.removeAfterCommit(ReportType.FIRE_SAFETY, id);
+        pdfCacheService.invalidateAfterCommit(ReportType.FIRE_SAFETY, id);
     }
 
-    // 회사별 점검 목록 조회
+    // 회사별 점검 목록 (기간 내 최신순, 커서 기반). cursor가 없으면 첫 페이지
     @Transactional(readOnly = true)
-    public List<FireSafetyInspectionDTO> getInspectionsByCompany(Long companyId) {
-        return fireSafetyInspectionRepository.findByCompany_CompanyId(companyId).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public CursorPageDTO<FireSafetyInspectionListDTO> getInspectionsByCompany(Long companyId, LocalDate from,
+                                                                              LocalDate to, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<FireSafetyInspectionListDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = fireSafetyInspectionRepository.findCompanyTimelineFirst(companyId, from, to, page);
+        } else {
+            CursorCodec.Cursor after = CursorCodec.decodeDated(cursor);
+            LocalDate upper = after.date().isBefore(to) ? after.date() : to;
+            rows = fireSafetyInspectionRepository.findCompanyTimelineAfter(
+                companyId, from, upper, after.date(), after.id(), page);
+        }
+        return CursorPageDTO.of(rows, limit,
+            last -> CursorCodec.encode(last.getInspectionDate(), last.getFireInspectionId()));
     }
 
     // 작성자별 점검 목록 조회
@@ -179,12 +235,13 @@ public class FireSafetyInspectionService {
     @Transactional
     public FireSafetyInspectionDTO saveManagerSignature(Long id, String signature) {
         FireSafetyInspection inspection = fireSafetyInspectionRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("점검 기록을 찾을 수 없습니다. ID: " + id));
+            .orElseThrow(() -> new FireSafetyInspectionNotFoundException(id));
         
-        inspection.setManagerSignature(signature);
+        inspection.setManagerSignatureId(signatureService.store(signature));
         inspection.setUpdatedAt(LocalDate.now());
         
-        FireSafetyInspection savedInspection = fireSafetyInspectionRepository.save(inspection);
+        FireSafetyInspection savedInspection = fireSafetyInspectionRepository.saveAndFlush(inspection);
+        pdfCacheService.invalidateAfterCommit(ReportType.FIRE_SAFETY, id);
         return convertToDTO(savedInspection);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.inspection.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.inspection.entity.Inspection;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* id_generator 테이블의 점검 ID 시작 값을 기존 AUTO_INCREMENT 최대값 이후로 맞춘다
+ * ApplicationRunner가 아닌 초기화 단계에서 실행해 웹 요청이 들어오기 전에 끝나도록 하고,
+ * EntityManagerFactory를 주입받아 스키마 갱신(id_generator 생성) 이후에 실행되도록 한다. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSeeder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void seed() {
+        // 값을 올리기만 하므로 여러 인스턴스가 동시에 실행해도 안전하다 (건너뛴 ID는 버려짐)
+        jdbcTemplate.update(
+            "INSERT INTO id_generator (gen_name, next_val) " +
+            "SELECT 'inspection', COALESCE(MAX(inspection_id), 0) + ? FROM inspection " +
+            "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))",
+            Inspection.ID_ALLOCATION_SIZE + 1);
+        log.info("점검 ID 할당 시작 값 확인 완료");
+    }
+}
@@ -0,0 +1,261 @@
+package com.inspection.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 이미지의 축소 파생본(JPEG) 생성
+ * 원본 옆에 "<원본파일명>.<용도>.jpg" 로 저장한다. (예: abc_photo.png.pdf.jpg)
+ * 업로드 직후 백그라운드에서 모두 만들고, 빠진 파생본은 처음 요청될 때 만든다.
+ * 같은 파생본을 동시에 요청하면 한 번만 만들고 나머지는 그 결과를 기다린다. */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    public enum Variant {
+        PDF("pdf", 1600, 0.8f),         // PDF 첨부용: 긴 변 1600px
+        THUMBNAIL("thumb", 320, 0.75f), // 목록 썸네일: 긴 변 320px
+        MEDIUM("medium", 1024, 0.8f);   // 상세 화면/모바일: 긴 변 1024px
+
+        private final String suffix;
+        private final int maxPixels;
+        private final float quality;
+
+        Variant(String suffix, int maxPixels, float quality) {
+            this.suffix = suffix;
+            this.maxPixels = maxPixels;
+            this.quality = quality;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public int getMaxPixels() {
+            return maxPixels;
+        }
+
+        /* URL 파라미터 값(thumb, medium, pdf) -> Variant. 모르는 값이면 null */
+        public static Variant fromSuffix(String suffix) {
+            if (suffix == null) {
+                return null;
+            }
+            String normalized = suffix.trim().toLowerCase(Locale.ROOT);
+            for (Variant variant : values()) {
+                if (variant.suffix.equals(normalized)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+
+    // 파생본 파일명 (<원본>.pdf.jpg 등). 파생본의 파생본은 만들지 않는다
+    private static final Pattern DERIVATIVE_NAME = Pattern.compile("(?i).+\\.(pdf|thumb|medium)\\.jpg");
+
+    private final ThreadPoolTaskExecutor imageDerivativeExecutor;
+
+    // 생성 중인 파생본 (같은 파일을 동시에 두 번 디코딩하지 않도록)
+    private final ConcurrentMap<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(
+        @Qualifier("imageDerivativeExecutor") ThreadPoolTaskExecutor imageDerivativeExecutor
+    ) {
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+    }
+
+    /* 업로드 직후 호출: 모든 파생본을 백그라운드에서 생성 */
+    public void createDerivativesAsync(Path original) {
+        imageDerivativeExecutor.execute(() -> {
+            for (Variant variant : Variant.values()) {
+                try {
+                    createDerivative(original, variant);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("이미지 파생본 생성 실패 ({}, {}): {}", original.getFileName(), variant, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /* PDF에 넣을 이미지 경로. 파생본이 없으면 즉시 생성하고, 실패하면 원본을 사용 */
+    public Path resolveForPdf(Path original) {
+        return resolve(original, Variant.PDF);
+    }
+
+    /* 요청한 크기의 이미지 경로. 파생본이 없으면 즉시 생성하고, 이미지가 아니거나 실패하면 원본을 사용 */
+    public Path resolve(Path original, Variant variant) {
+        if (isDerivative(original)) {
+            return original;
+        }
+        Path derivative = derivativePath(original, variant);
+        if (Files.exists(derivative)) {
+            return derivative;
+        }
+        try {
+            return createDerivative(original, variant);
+        } catch (IOException | RuntimeException e) {
+            log.debug("{} 파생본을 만들 수 없어 원본 사용 ({}): {}", variant, original.getFileName(), e.getMessage());
+            return original;
+        }
+    }
+
+    public Path derivativePath(Path original, Variant variant) {
+        return original.resolveSibling(original.getFileName() + "." + variant.suffix + ".jpg");
+    }
+
+    public static boolean isDerivative(Path file) {
+        return DERIVATIVE_NAME.matcher(file.getFileName().toString()).matches();
+    }
+
+    /* 원본 삭제 시 함께 지울 파생본 경로 */
+    public List<Path> derivativePaths(Path original) {
+        List<Path> paths = new ArrayList<>();
+        for (Variant variant : Variant.values()) {
+            paths.add(derivativePath(original, variant));
+        }
+        return paths;
+    }
+
+    /* 파생본 생성 (이미 있으면 기존 파일 경로 반환, 다른 스레드가 만드는 중이면 그 결과를 기다림) */
+    public Path createDerivative(Path original, Variant variant) throws IOException {
+        if (isDerivative(original)) {
+            throw new IllegalArgumentException("파생본의 파생본은 만들지 않습니다: " + original.getFileName());
+        }
+        Path target = derivativePath(original, variant);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(target, created);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw e;
+            }
+        }
+        try {
+            Path result = generate(original, target, variant);
+            created.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(target, created);
+        }
+    }
+
+    private Path generate(Path original, Path target, Variant variant) throws IOException {
+        if (Files.exists(target)) {
+            return target;  // 확인과 등록 사이에 다른 스레드가 끝낸 경우
+        }
+
+        BufferedImage source = readSubsampled(original, variant.maxPixels);
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) variant.maxPixels / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage resized = resize(source, targetWidth, targetHeight);
+
+        // 임시 파일에 쓴 뒤 원자적으로 교체하여 동시에 생성/조회되어도 부분 파일이 보이지 않도록 한다
+        Path temp = Files.createTempFile(original.getParent(), ".derivative-", ".tmp");
+        try {
+            writeJpeg(resized, temp, variant.quality);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target;
+    }
+
+    /* 원본이 목표 크기보다 훨씬 크면 디코딩 단계에서 픽셀을 건너뛰어 메모리와 시간을 줄인다 */
+    private BufferedImage readSubsampled(Path original, int maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지 파일을 열 수 없습니다: " + original.getFileName());
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다: " + original.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // 최종 크기의 2배 이상은 남겨서 축소 품질을 유지
+                int subsampling = Math.max(1, longest / (maxPixels * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        // JPEG은 알파 채널이 없으므로 흰 배경의 RGB 이미지로 변환
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
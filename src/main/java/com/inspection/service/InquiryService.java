@@ -1,12 +1,8 @@
 package com.inspection.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -23,6 +19,9 @@ import com.inspection.entity.Role;
 import com.inspection.entity.User;
 import com.inspection.repository.InquiryRepository;
 import com.inspection.repository.UserRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,7 +31,8 @@ public class InquiryService {
     private static final Logger log = LoggerFactory.getLogger(InquiryService.class);
     private final InquiryRepository inquiryRepository;
     private final UserRepository userRepository;
-    private final String uploadDir = "uploads/inquiry_images/";
+    private final StoredFileService storedFileService;
+    private final StorageService storageService;
 
     @Transactional
     public InquiryDTO createInquiry(String inquiryTitle, String inquiryContent, 
@@ -52,18 +52,12 @@ public class InquiryService {
         
         // 이미지 처리
         if (images != null && !images.isEmpty()) {
-            List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    String imageUrl = saveImage(image);
-                    imageUrls.add(imageUrl);
-                }
-            }
-            inquiry.setImageUrls(imageUrls);
+            inquiry.setImageUrls(saveImages(images));
         }
         
         // 저장
         Inquiry savedInquiry = inquiryRepository.save(inquiry);
+        storedFileService.applyChange(StorageArea.INQUIRY_IMAGES, null, savedInquiry.getImageUrls());
         return convertToDTO(savedInquiry);
     }
 
@@ -138,12 +132,8 @@ public class InquiryService {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
         
-        // 이미지 파일 삭제
-        if (inquiry.getImageUrls() != null && !inquiry.getImageUrls().isEmpty()) {
-            for (String imageUrl : inquiry.getImageUrls()) {
-                deleteImage(imageUrl);
-            }
-        }
+        // 이미지 참조 해제 (같은 파일을 쓰는 곳이 없으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.INQUIRY_IMAGES, inquiry.getImageUrls(), null);
         
         inquiryRepository.delete(inquiry);
     }
@@ -169,53 +159,28 @@ public class InquiryService {
                             List<String> existingImages) {
         List<String> currentImages = inquiry.getImageUrls();
         
-        // existingImages가 null이거나 비어있으면 모든 기존 이미지 삭제
-        if (currentImages != null && (existingImages == null || existingImages.isEmpty())) {
-            for (String oldImage : currentImages) {
-                deleteImage(oldImage);
-            }
-            inquiry.setImageUrls(new ArrayList<>());
-        }
-        // 기존 이미지 중 삭제된 이미지 처리
-        else if (currentImages != null && existingImages != null) {
-            for (String oldImage : currentImages) {
-                if (!existingImages.contains(oldImage)) {
-                    deleteImage(oldImage);
-                }
-            }
-        }
-        
-        // 새로운 이미지 목록 생성
+        // 새로운 이미지 목록 생성 (existingImages가 null이거나 비어있으면 기존 이미지는 모두 빠진다)
         List<String> updatedImageUrls = new ArrayList<>();
         if (existingImages != null) {
             updatedImageUrls.addAll(existingImages);
         }
         
         // 새 이미지 추가
-        if (newImages != null) {
-            for (MultipartFile image : newImages) {
-                if (!image.isEmpty()) {
-                    String imageUrl = saveImage(image);
-                    updatedImageUrls.add(imageUrl);
-                }
-            }
-        }
+        updatedImageUrls.addAll(saveImages(newImages));
         
+        // 빠진 이미지는 참조 수만 줄인다 (같은 파일을 쓰는 곳이 없으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.INQUIRY_IMAGES, currentImages, updatedImageUrls);
         inquiry.setImageUrls(updatedImageUrls);
     }
 
-    private String saveImage(MultipartFile image) {
+    /* 빈 파일을 제외하고 저장한 뒤 파일명 목록 반환 */
+    private List<String> saveImages(List<MultipartFile> images) {
         try {
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            List<String> fileNames = new ArrayList<>();
+            for (StorageKey key : storageService.store(StorageArea.INQUIRY_IMAGES, images)) {
+                fileNames.add(key.name());
             }
-
-            String filename = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(image.getInputStream(), filePath);
-
-            return filename;
+            return fileNames;
         } catch (IOException e) {
             throw new RuntimeException("이미지 파일 저장 실패: " + e.getMessage(), e);
         }
@@ -251,14 +216,4 @@ public class InquiryService {
         dto.setCompanyName(inquiry.getWriter().getCompany().getCompanyName());
         return dto;
     }
-
-    private void deleteImage(String imageUrl) {
-        try {
-            Path imagePath = Paths.get(uploadDir).resolve(imageUrl);
-            Files.deleteIfExists(imagePath);
-        } catch (IOException e) {
-            // 파일 삭제 실패는 로그만 남기고 계속 진행
-            log.error("이미지 파일 삭제 실패: {}", e.getMessage());
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.inspection.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inspection.dto.CacheStatsDTO;
+import com.inspection.dto.InspectionDetailDTO;
+import com.inspection.dto.MeasurementDTO;
+
+/* 점검 상세(InspectionDetailDTO) 메모리 캐시
+ * 항목 수 상한(LRU)과 TTL을 함께 적용한다. 수정/서명/삭제 커밋 후 해당 점검을 무효화하며,
+ * 조회 도중 무효화된 경우 오래된 결과를 저장하지 않도록, 조회 중인 점검에만 무효화 여부를 기록한다
+ * (조회가 끝나면 지우므로 기록은 동시에 조회 중인 점검 수를 넘지 않는다).
+ * 캐시된 DTO는 저장할 때와 돌려줄 때 복사하므로 호출자가 수정해도 다른 요청에 영향이 없다. */
+@Service
+public class InspectionDetailCacheService {
+
+    @Value("${inspection.detail-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${inspection.detail-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private record Entry(InspectionDetailDTO value, long expiresAt) {}
+
+    // 조회 중인 점검 (같은 점검을 동시에 조회하면 함께 센다)
+    private static final class Load {
+        private int loaders;
+        private boolean invalidated;   // 조회 도중 무효화됨 -> 결과를 저장하지 않음
+    }
+
+    // 점검 ID별 진행 중인 조회 (접근은 모두 entries 락 안에서)
+    private final Map<Long, Load> loads = new HashMap<>();
+
+    // accessOrder=true 로 LRU 순서 유지 (접근은 모두 synchronized)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /* 캐시 조회, 없거나 만료되었으면 loader로 만든 뒤 저장
+     * 쓰기 트랜잭션 안에서는 커밋 전 상태가 캐시에 들어가지 않도록 캐시를 거치지 않는다 */
+    public InspectionDetailDTO get(Long inspectionId, Supplier<InspectionDetailDTO> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(inspectionId);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    hitCount.incrementAndGet();
+                    return copy(entry.value());
+                }
+                entries.remove(inspectionId);
+                evictionCount.incrementAndGet();
+            }
+        }
+        missCount.incrementAndGet();
+
+        Load load;
+        synchronized (entries) {
+            load = loads.computeIfAbsent(inspectionId, id -> new Load());
+            load.loaders++;
+        }
+        InspectionDetailDTO loaded = null;
+        try {
+            loaded = loader.get();
+        } finally {
+            synchronized (entries) {
+                // 로딩 중에 무효화되었다면 저장하지 않는다 (확인과 저장을 같은 락 안에서)
+                if (loaded != null && !load.invalidated) {
+                    entries.put(inspectionId, new Entry(copy(loaded), System.currentTimeMillis() + ttlSeconds * 1000));
+                    evictOverflow();
+                }
+                if (--load.loaders == 0) {
+                    loads.remove(inspectionId);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long inspectionId) {
+        synchronized (entries) {
+            Load load = loads.get(inspectionId);
+            if (load != null) {
+                load.invalidated = true;
+            }
+            entries.remove(inspectionId);
+        }
+    }
+
+    /* 트랜잭션 커밋 이후에 무효화 (트랜잭션 밖이면 즉시 수행) */
+    public void invalidateAfterCommit(Long inspectionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(inspectionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(inspectionId);
+            }
+        });
+    }
+
+    public CacheStatsDTO getStats() {
+        long size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStatsDTO("inspection-detail", hitCount.get(), missCount.get(),
+            evictionCount.get(), size, 0L);
+    }
+
+    /* 캐시 밖으로 나가는 DTO 복사 (목록과 측정개소 DTO까지) */
+    private static InspectionDetailDTO copy(InspectionDetailDTO source) {
+        InspectionDetailDTO copy = new InspectionDetailDTO();
+        BeanUtils.copyProperties(source, copy);
+        if (source.getImages() != null) {
+            copy.setImages(new ArrayList<>(source.getImages()));
+        }
+        if (source.getMeasurements() != null) {
+            List<MeasurementDTO> measurements = new ArrayList<>(source.getMeasurements().size());
+            for (MeasurementDTO measurement : source.getMeasurements()) {
+                MeasurementDTO point = new MeasurementDTO();
+                BeanUtils.copyProperties(measurement, point);
+                measurements.add(point);
+            }
+            copy.setMeasurements(measurements);
+        }
+        return copy;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+}
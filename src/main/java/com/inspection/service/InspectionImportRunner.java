@@ -0,0 +1,64 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.inspection.dto.ImportResultDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 명령행 일괄 가져오기
+ * java -jar app.jar --import.file=/data/region.ndjson [--import.id=region-2024]
+ * 확장자가 .csv면 CSV, 그 외는 NDJSON. 가져오기가 끝나면 애플리케이션을 종료한다 (실패 시 종료 코드 1).
+ * 이 모드는 웹 서버 없이 뜨고, InspectionApplication이 명령행에 --search.index.enabled=false를 덧붙여
+ * (application.yml 값보다 우선) 검색 색인을 열지 않으므로 실행 중인 서버와 함께 돌릴 수 있다.
+ * 가져온 점검은 검색 색인에 들어가지 않으니 끝난 뒤 서버에서 POST /api/search/rebuild로 반영한다.
+ * (서버가 꺼져 있을 때 --search.index.enabled=true를 직접 주면 같은 색인 디렉터리에 바로 추가한다) */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InspectionImportRunner implements ApplicationRunner {
+
+    private final InspectionImportService inspectionImportService;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues("import.file");
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        Path file = Paths.get(files.get(0));
+        List<String> ids = args.getOptionValues("import.id");
+        String importId = ids != null && !ids.isEmpty() ? ids.get(0) : file.getFileName().toString();
+        InspectionImportService.Format format = file.getFileName().toString().toLowerCase().endsWith(".csv")
+            ? InspectionImportService.Format.CSV
+            : InspectionImportService.Format.NDJSON;
+
+        ImportResultDTO result;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            result = inspectionImportService.importInspections(importId, format, reader);
+        }
+        result.getErrors().forEach(error -> log.warn("가져오기 건너뜀: {}", error));
+        if (!searchIndexService.isEnabled() && result.getImportedCount() > 0) {
+            log.info("검색 색인은 갱신하지 않았습니다. 서버에서 POST /api/search/rebuild를 실행하세요");
+        }
+
+        int exitCode = "COMPLETED".equals(result.getStatus()) ? 0 : 1;
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+}
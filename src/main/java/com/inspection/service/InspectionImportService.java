@@ -0,0 +1,438 @@
+package com.inspection.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inspection.dto.ImportResultDTO;
+import com.inspection.dto.InspectionImportDTO;
+import com.inspection.entity.Company;
+import com.inspection.entity.Inspection;
+import com.inspection.entity.InspectionImportCheckpoint;
+import com.inspection.entity.User;
+import com.inspection.exception.InvalidImportException;
+import com.inspection.exception.InvalidMeasurementException;
+import com.inspection.exception.ServiceBusyException;
+import com.inspection.repository.CompanyRepository;
+import com.inspection.repository.InspectionImportCheckpointRepository;
+import com.inspection.repository.UserRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.util.CsvReader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 기존 점검 데이터 일괄 가져오기 (CSV / NDJSON)
+ * 입력을 한 레코드씩 읽어 batch-size 건마다 한 트랜잭션으로 저장한다 (JDBC 배치 insert).
+ * 업체/작성자는 시작 시 만든 조회표로 찾고, 진행 위치는 같은 트랜잭션에서 체크포인트에 기록해
+ * 중단되면 같은 importId로 다시 실행해 이어서 가져온다. 형식이 잘못되었거나 DB에 넣을 수 없는 레코드(컬럼 길이 초과 등)는
+ * 건너뛰고 결과에 남긴다. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InspectionImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int PROGRESS_LOG_BATCHES = 10;
+
+    @Value("${inspection.import.batch-size:500}")
+    private int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final InspectionService inspectionService;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final InspectionImportCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ChecklistSummaryService checklistSummaryService;
+    private final SearchIndexService searchIndexService;
+    private final StoredFileService storedFileService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    // 같은 importId를 동시에 실행하지 않도록
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    /* 레코드를 DTO로 바꾸는 작업. 변환 오류를 레코드 단위로 처리하려고 읽기와 분리한다 */
+    private interface RecordSource {
+        Callable<InspectionImportDTO> next() throws IOException;   // 입력 끝이면 null
+    }
+
+    private record PendingRow(long recordNo, InspectionImportDTO dto, Long companyId, Long userId) {}
+
+    public ImportResultDTO importInspections(String importId, Format format, Reader input) throws IOException {
+        if (importId == null || importId.isBlank() || importId.length() > 100) {
+            throw new InvalidImportException("importId는 1~100자로 지정해야 합니다");
+        }
+        if (!running.add(importId)) {
+            throw new ServiceBusyException("같은 가져오기 작업이 이미 진행 중입니다: " + importId);
+        }
+        try {
+            return run(importId, format, new BufferedReader(input));
+        } finally {
+            running.remove(importId);
+        }
+    }
+
+    private ImportResultDTO run(String importId, Format format, BufferedReader reader) throws IOException {
+        InspectionImportCheckpoint checkpoint = checkpointRepository.findById(importId)
+            .orElseGet(() -> newCheckpoint(importId));
+
+        ImportResultDTO result = new ImportResultDTO();
+        result.setImportId(importId);
+        result.setResumedFromRecord(checkpoint.getLastRecord());
+        if ("COMPLETED".equals(checkpoint.getStatus())) {
+            result.setStatus("COMPLETED");
+            result.setImportedCount(checkpoint.getImportedCount());
+            result.setSkippedCount(checkpoint.getSkippedCount());
+            return result;
+        }
+
+        Lookup companies = new Lookup("업체", companyRepository.findAllIdAndName());
+        Lookup users = new Lookup("작성자", userRepository.findAllIdAndUsername());
+        RecordSource source = format == Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+        if (checkpoint.getLastRecord() > 0) {
+            log.info("점검 가져오기 {} 재개: {}번째 레코드 이후부터", importId, checkpoint.getLastRecord());
+        }
+
+        long started = System.nanoTime();
+        long recordNo = 0;
+        List<Long> skippedRecords = new ArrayList<>();     // 이번 배치에서 변환 오류로 건너뛴 레코드 번호
+        int batches = 0;
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        try {
+            Callable<InspectionImportDTO> record;
+            while ((record = source.next()) != null) {
+                recordNo++;
+                if (recordNo <= checkpoint.getLastRecord()) {
+                    continue;   // 이전 실행에서 커밋된 레코드
+                }
+                result.setProcessedCount(result.getProcessedCount() + 1);
+
+                try {
+                    batch.add(resolve(recordNo, record.call(), companies, users));
+                } catch (Exception e) {
+                    skippedRecords.add(recordNo);
+                    addError(result, recordNo, e);
+                }
+
+                if (batch.size() >= batchSize) {
+                    write(result, checkpoint, batch, skippedRecords, recordNo, "RUNNING");
+                    batch.clear();
+                    skippedRecords.clear();
+                    if (++batches % PROGRESS_LOG_BATCHES == 0) {
+                        log.info("점검 가져오기 {}: {}건 처리, {} rows/s", importId,
+                            result.getProcessedCount(), (long) rowsPerSecond(result.getProcessedCount(), started));
+                    }
+                }
+            }
+            // 남은 행과 마지막 건너뛴 레코드까지 체크포인트에 반영
+            write(result, checkpoint, batch, skippedRecords, recordNo, "COMPLETED");
+            result.setStatus("COMPLETED");
+        } catch (RuntimeException e) {
+            // 실패한 배치는 롤백되고 체크포인트는 마지막 커밋 위치에 남는다
+            log.error("점검 가져오기 {} 실패 ({}번째 레코드 이후 배치): {}", importId, checkpoint.getLastRecord(), e.getMessage(), e);
+            markFailed(importId);
+            result.setStatus("FAILED");
+            result.getErrors().add("저장 실패, " + checkpoint.getLastRecord() + "번째 레코드까지 커밋됨: " + e.getMessage());
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(rowsPerSecond(result.getProcessedCount(), started));
+        result.setImportedCount(checkpoint.getImportedCount());
+        result.setSkippedCount(checkpoint.getSkippedCount());
+        log.info("점검 가져오기 {} {}: 이번 실행 {}건, 누적 저장 {}건 / 건너뜀 {}건, {} rows/s", importId,
+            result.getStatus(), result.getProcessedCount(), result.getImportedCount(), result.getSkippedCount(),
+            (long) result.getRowsPerSecond());
+        return result;
+    }
+
+    /* 배치 저장. 레코드 값 때문에 실패하면(컬럼 길이 초과, 제약 위반 등) 한 건씩 다시 저장해 그 레코드만 건너뛴다.
+     * 그렇지 않으면 같은 배치가 재개할 때마다 다시 실패해 가져오기를 끝낼 수 없다.
+     * DB 연결 끊김 같은 다른 오류는 그대로 던져 FAILED로 남긴다 (다시 실행하면 이 배치부터 이어서) */
+    private void write(ImportResultDTO result, InspectionImportCheckpoint checkpoint, List<PendingRow> rows,
+                       List<Long> skippedRecords, long lastRecord, String nextStatus) {
+        try {
+            writeBatch(checkpoint, rows, lastRecord, skippedRecords.size(), nextStatus);
+            return;
+        } catch (RuntimeException e) {
+            if (!isRecordError(e)) {
+                throw e;
+            }
+            log.warn("점검 가져오기 {}: {}번째 레코드 이후 배치 저장 실패, 한 건씩 다시 저장 ({})",
+                checkpoint.getImportId(), checkpoint.getLastRecord(), errorMessage(e));
+        }
+
+        int skippedIndex = 0;
+        for (PendingRow row : rows) {
+            // 이 행보다 앞에서 변환 오류로 건너뛴 레코드도 같은 트랜잭션에서 체크포인트에 반영
+            long skippedBefore = 0;
+            while (skippedIndex < skippedRecords.size() && skippedRecords.get(skippedIndex) < row.recordNo()) {
+                skippedIndex++;
+                skippedBefore++;
+            }
+            try {
+                writeBatch(checkpoint, List.of(row), row.recordNo(), skippedBefore, "RUNNING");
+            } catch (RuntimeException e) {
+                if (!isRecordError(e)) {
+                    throw e;
+                }
+                addError(result, row.recordNo(), e);
+                writeBatch(checkpoint, List.of(), row.recordNo(), skippedBefore + 1, "RUNNING");
+            }
+        }
+        long skippedAfter = skippedRecords.size() - skippedIndex;
+        if (lastRecord != checkpoint.getLastRecord() || skippedAfter > 0 || !nextStatus.equals(checkpoint.getStatus())) {
+            writeBatch(checkpoint, List.of(), lastRecord, skippedAfter, nextStatus);
+        }
+    }
+
+    /* 레코드 값 때문에 생긴 오류인지: SQLState 22(데이터 예외: 길이 초과, 잘못된 값) / 23(제약 위반), JSON 변환 오류, 저장할 수 없는 측정값 */
+    private static boolean isRecordError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException || cause instanceof InvalidMeasurementException) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* 한 배치를 한 트랜잭션으로 저장하고 체크포인트를 함께 갱신
+     * checkpoint(메모리)는 커밋이 끝난 뒤에만 바꿔, 실패 시 마지막 커밋 위치를 그대로 가리키게 한다 */
+    private void writeBatch(InspectionImportCheckpoint checkpoint, List<PendingRow> rows,
+                            long lastRecord, long skipped, String nextStatus) {
+        InspectionImportCheckpoint next = new InspectionImportCheckpoint();
+        next.setImportId(checkpoint.getImportId());
+        next.setStartedAt(checkpoint.getStartedAt());
+        next.setLastRecord(lastRecord);
+        next.setImportedCount(checkpoint.getImportedCount() + rows.size());
+        next.setSkippedCount(checkpoint.getSkippedCount() + skipped);
+        next.setStatus(nextStatus);
+        next.setUpdatedAt(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 배치 크기만큼 한 번에 insert (전역 hibernate.jdbc.batch_size보다 크게)
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<ChecklistSummaryService.Snapshot> snapshots = new ArrayList<>(rows.size());
+            List<SearchIndexService.Entry> searchEntries = new ArrayList<>(rows.size());
+            List<List<String>> images = new ArrayList<>(rows.size());
+            for (PendingRow row : rows) {
+                Company company = entityManager.getReference(Company.class, row.companyId());
+                User user = row.userId() != null ? entityManager.getReference(User.class, row.userId()) : null;
+                try {
+                    Inspection inspection = inspectionService.toEntity(row.dto(), company, user);
+                    entityManager.persist(inspection);
+                    snapshots.add(ChecklistSummaryService.Snapshot.of(inspection));
+                    searchEntries.add(SearchIndexService.Entry.of(inspection));
+                    if (row.dto().getImages() != null) {
+                        images.add(row.dto().getImages());
+                    }
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("JSON 처리 중 오류 발생 (레코드 " + row.recordNo() + ")", e);
+                }
+            }
+
+            entityManager.merge(next);
+
+            entityManager.flush();
+            entityManager.clear();  // 영속성 컨텍스트가 배치마다 커지지 않도록
+
+            // 같은 트랜잭션에서 불량률 집계표 반영
+            checklistSummaryService.applyCreated(snapshots);
+            storedFileService.applyCreated(StorageArea.INSPECTION_IMAGES, images);
+            // 배치가 커밋된 뒤 검색 색인에 한 번에 추가
+            searchIndexService.indexAfterCommit(searchEntries);
+        });
+
+        checkpoint.setLastRecord(next.getLastRecord());
+        checkpoint.setImportedCount(next.getImportedCount());
+        checkpoint.setSkippedCount(next.getSkippedCount());
+        checkpoint.setStatus(nextStatus);
+        checkpoint.setUpdatedAt(next.getUpdatedAt());
+    }
+
+    private void markFailed(String importId) {
+        transactionTemplate.executeWithoutResult(status ->
+            checkpointRepository.findById(importId).ifPresent(saved -> {
+                saved.setStatus("FAILED");
+                saved.setUpdatedAt(LocalDateTime.now());
+            }));
+    }
+
+    private InspectionImportCheckpoint newCheckpoint(String importId) {
+        InspectionImportCheckpoint checkpoint = new InspectionImportCheckpoint();
+        checkpoint.setImportId(importId);
+        checkpoint.setStatus("RUNNING");
+        checkpoint.setStartedAt(LocalDateTime.now());
+        return checkpoint;
+    }
+
+    /* 업체/작성자를 조회표에서 찾는다. ID가 있으면 ID 우선. 업체는 필수, 작성자는 없으면 비워 둔다 */
+    private PendingRow resolve(long recordNo, InspectionImportDTO dto, Lookup companies, Lookup users) {
+        Long companyId = companies.resolve(dto.getCompanyId(), dto.getCompanyName());
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId 또는 companyName이 필요합니다");
+        }
+        Long userId = users.resolve(dto.getUserId(), dto.getUsername());
+        return new PendingRow(recordNo, dto, companyId, userId);
+    }
+
+    /* 시작 시 한 번 읽어 둔 [id, 이름] 조회표. 같은 이름이 여럿이면 이름으로는 찾지 않는다 */
+    private static class Lookup {
+        private final String label;
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<String, Long> byName = new HashMap<>();
+
+        Lookup(String label, List<Object[]> rows) {
+            this.label = label;
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                ids.add(id);
+                if (row[1] != null) {
+                    String name = row[1].toString().trim();
+                    byName.put(name, byName.containsKey(name) ? null : id);
+                }
+            }
+        }
+
+        Long resolve(Long id, String name) {
+            if (id != null) {
+                if (!ids.contains(id)) {
+                    throw new IllegalArgumentException(label + " ID가 없습니다: " + id);
+                }
+                return id;
+            }
+            if (name == null || name.isBlank()) {
+                return null;
+            }
+            String key = name.trim();
+            if (!byName.containsKey(key)) {
+                throw new IllegalArgumentException(label + "를 찾을 수 없습니다: " + key);
+            }
+            Long found = byName.get(key);
+            if (found == null) {
+                throw new IllegalArgumentException(label + " 이름이 중복되어 ID로 지정해야 합니다: " + key);
+            }
+            return found;
+        }
+    }
+
+    private RecordSource ndjsonSource(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            String json = line;
+            return () -> objectMapper.readValue(json, InspectionImportDTO.class);
+        };
+    }
+
+    /* CSV: 첫 레코드는 머리행(필드명). measurements, images 열은 JSON 배열 문자열 */
+    private RecordSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new InvalidImportException("CSV 머리행이 없습니다");
+        }
+        validateHeader(header);
+        return () -> {
+            List<String> fields = csv.next();
+            if (fields == null) {
+                return null;
+            }
+            return () -> {
+                if (fields.size() > header.size()) {
+                    throw new IllegalArgumentException("열 개수가 머리행보다 많습니다");
+                }
+                ObjectNode node = objectMapper.createObjectNode();
+                for (int i = 0; i < fields.size(); i++) {
+                    String name = header.get(i).trim();
+                    String value = fields.get(i);
+                    if (value.isBlank()) {
+                        continue;
+                    }
+                    if (name.equals("measurements") || name.equals("images")) {
+                        node.set(name, objectMapper.readTree(value));
+                    } else {
+                        node.put(name, value.trim());
+                    }
+                }
+                return objectMapper.treeToValue(node, InspectionImportDTO.class);
+            };
+        };
+    }
+
+    /* 머리행 오류는 모든 행이 건너뛰어지므로 시작 전에 거부한다 */
+    private void validateHeader(List<String> header) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (String name : header) {
+            node.putNull(name.trim());
+        }
+        try {
+            objectMapper.treeToValue(node, InspectionImportDTO.class);
+        } catch (UnrecognizedPropertyException e) {
+            throw new InvalidImportException("알 수 없는 CSV 열입니다: " + e.getPropertyName());
+        } catch (JsonProcessingException e) {
+            throw new InvalidImportException("CSV 머리행을 해석할 수 없습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private void addError(ImportResultDTO result, long recordNo, Exception e) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(recordNo + "번째 레코드: " + errorMessage(e));
+        }
+    }
+
+    /* JSON 오류는 원래 메시지, DB 오류는 드라이버 메시지 (Hibernate가 감싼 SQL 전체 대신) */
+    private static String errorMessage(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException json) {
+                return json.getOriginalMessage();
+            }
+            if (cause instanceof SQLException) {
+                return cause.getMessage();
+            }
+        }
+        return e.getMessage();
+    }
+
+    private double rowsPerSecond(long rows, long startedNanos) {
+        double seconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        return seconds > 0 ? rows / seconds : 0;
+    }
+}
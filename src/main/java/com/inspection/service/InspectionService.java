@@ -1,33 +1,48 @@
 package com.inspection.service;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.dto.CursorPageDTO;
+import com.inspection.dto.EntityVersionDTO;
 import com.inspection.dto.InspectionBoardDTO;
 import com.inspection.dto.InspectionCreateDTO;
 import com.inspection.dto.InspectionDetailDTO;
 import com.inspection.dto.InspectionListDTO;
+import com.inspection.dto.MeasurementAlertDTO;
 import com.inspection.entity.Company;
 import com.inspection.entity.Inspection;
+import com.inspection.entity.InspectionMeasurement;
 import com.inspection.entity.User;
 import com.inspection.exception.InspectionNotFoundException;
+import com.inspection.exception.InvalidMeasurementException;
+import com.inspection.exception.InvalidPatchException;
+import com.inspection.exception.PreconditionFailedException;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.repository.InspectionRepository;
 import com.inspection.repository.UserRepository;
+import com.inspection.report.ReportType;
+import com.inspection.storage.StorageArea;
+import com.inspection.util.CursorCodec;
+import com.inspection.util.MeasurementMapper;
 
 import lombok.RequiredArgsConstructor;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.Files;
-import java.io.IOException;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -38,6 +53,17 @@ public class InspectionService {
     private final InspectionRepository inspectionRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final PdfCacheService pdfCacheService;
+    private final SignatureService signatureService;
+    private final InspectionDetailCacheService detailCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final ChecklistSummaryService checklistSummaryService;
+    private final SearchIndexService searchIndexService;
+    private final StoredFileService storedFileService;
+
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> STATUS_CODES = Set.of("O", "X", "/");   // 점검내역 적합/부적합/해당없음
     
     @Transactional
     public Long createInspection(InspectionCreateDTO dto) {
@@ -49,59 +75,13 @@ public class InspectionService {
             User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-            // Inspection 엔티티 생성
-            Inspection inspection = new Inspection();
-            inspection.setCompany(company);
-            inspection.setUser(user);
-            inspection.setInspectionDate(dto.getInspectionDate());
-            inspection.setManagerName(dto.getManagerName());
-            
-            // 기본사항
-            inspection.setFaucetVoltage(dto.getFaucetVoltage());
-            inspection.setFaucetCapacity(dto.getFaucetCapacity());
-            inspection.setGenerationVoltage(dto.getGenerationVoltage());
-            inspection.setGenerationCapacity(dto.getGenerationCapacity());
-            inspection.setSolarCapacity(dto.getSolarCapacity());
-            inspection.setContractCapacity(dto.getContractCapacity());
-            inspection.setInspectionType(dto.getInspectionType());
-            inspection.setInspectionCount(dto.getInspectionCount());
-            
-            // 점검내역
-            inspection.setWiringInlet(dto.getWiringInlet());
-            inspection.setDistributionPanel(dto.getDistributionPanel());
-            inspection.setMoldedCaseBreaker(dto.getMoldedCaseBreaker());
-            inspection.setEarthLeakageBreaker(dto.getEarthLeakageBreaker());
-            inspection.setSwitchGear(dto.getSwitchGear());
-            inspection.setWiring(dto.getWiring());
-            inspection.setMotor(dto.getMotor());
-            inspection.setHeatingEquipment(dto.getHeatingEquipment());
-            inspection.setWelder(dto.getWelder());
-            inspection.setCapacitor(dto.getCapacitor());
-            inspection.setLighting(dto.getLighting());
-            inspection.setGrounding(dto.getGrounding());
-            inspection.setInternalWiring(dto.getInternalWiring());
-            inspection.setGenerator(dto.getGenerator());
-            inspection.setOtherEquipment(dto.getOtherEquipment());
-            
-            // measurements를 JSON 문자열로 변환
-            if (dto.getMeasurements() != null) {
-                String measurementsJson = new ObjectMapper().writeValueAsString(dto.getMeasurements());
-                inspection.setMeasurements(measurementsJson);
-            }
-            
-            // 특이사항
-            inspection.setSpecialNotes(dto.getSpecialNotes());
-            
-            // 서명
-            inspection.setSignature(dto.getSignature());
-            
-            // 이미지
-            if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-                inspection.setImages(new ObjectMapper().writeValueAsString(dto.getImages()));
-            }
+            Inspection inspection = toEntity(dto, company, user);
             
             // 저장
             inspection = inspectionRepository.save(inspection);
+            checklistSummaryService.applyChange(null, ChecklistSummaryService.Snapshot.of(inspection));
+            storedFileService.applyChange(StorageArea.INSPECTION_IMAGES, null, dto.getImages());
+            searchIndexService.indexAfterCommit(SearchIndexService.Entry.of(inspection));
             return inspection.getInspectionId();
         } catch (JsonProcessingException e) {
             throw new RuntimeException("JSON 처리 중 오류 발생", e);
@@ -112,12 +92,76 @@ public class InspectionService {
         }
     }
     
-    @Transactional(readOnly = true)
+    /* 생성 DTO -> 새 점검 엔티티 (저장은 호출자가 한다. 일괄 가져오기에서도 사용) */
+    Inspection toEntity(InspectionCreateDTO dto, Company company, User user) throws JsonProcessingException {
+        Inspection inspection = new Inspection();
+        inspection.setCompany(company);
+        inspection.setUser(user);
+        inspection.setInspectionDate(dto.getInspectionDate());
+        inspection.setManagerName(dto.getManagerName());
+        
+        // 기본사항
+        inspection.setFaucetVoltage(dto.getFaucetVoltage());
+        inspection.setFaucetCapacity(dto.getFaucetCapacity());
+        inspection.setGenerationVoltage(dto.getGenerationVoltage());
+        inspection.setGenerationCapacity(dto.getGenerationCapacity());
+        inspection.setSolarCapacity(dto.getSolarCapacity());
+        inspection.setContractCapacity(dto.getContractCapacity());
+        inspection.setInspectionType(dto.getInspectionType());
+        inspection.setInspectionCount(dto.getInspectionCount());
+        
+        // 점검내역
+        inspection.setWiringInlet(dto.getWiringInlet());
+        inspection.setDistributionPanel(dto.getDistributionPanel());
+        inspection.setMoldedCaseBreaker(dto.getMoldedCaseBreaker());
+        inspection.setEarthLeakageBreaker(dto.getEarthLeakageBreaker());
+        inspection.setSwitchGear(dto.getSwitchGear());
+        inspection.setWiring(dto.getWiring());
+        inspection.setMotor(dto.getMotor());
+        inspection.setHeatingEquipment(dto.getHeatingEquipment());
+        inspection.setWelder(dto.getWelder());
+        inspection.setCapacitor(dto.getCapacitor());
+        inspection.setLighting(dto.getLighting());
+        inspection.setGrounding(dto.getGrounding());
+        inspection.setInternalWiring(dto.getInternalWiring());
+        inspection.setGenerator(dto.getGenerator());
+        inspection.setOtherEquipment(dto.getOtherEquipment());
+        
+        // 측정개소 (상별 행으로 변환)
+        inspection.getMeasurements().addAll(toMeasurementRows(dto.getMeasurements()));
+        
+        // 특이사항
+        inspection.setSpecialNotes(dto.getSpecialNotes());
+        
+        // 서명
+        inspection.setSignatureId(signatureService.store(dto.getSignature()));
+        
+        // 이미지
+        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
+            inspection.setImages(OBJECT_MAPPER.writeValueAsString(dto.getImages()));
+        }
+        
+        return inspection;
+    }
+
+    /* 점검 상세 조회 (InspectionDetailCacheService 경유, 캐시 적중 시 DB를 조회하지 않는다) */
     public InspectionDetailDTO getInspectionDetail(Long inspectionId) {
-        try {
+        return detailCacheService.get(inspectionId, () -> transactionTemplate.execute(status -> {
             Inspection inspection = inspectionRepository.findById(inspectionId)
                 .orElseThrow(() -> new InspectionNotFoundException(inspectionId));
-            
+            return toDetailDTO(inspection);
+        }));
+    }
+
+    /* 조건부 요청 확인용 버전 (상세 DTO를 만들지 않음) */
+    @Transactional(readOnly = true)
+    public EntityVersionDTO getInspectionVersion(Long inspectionId) {
+        return inspectionRepository.findVersionById(inspectionId)
+            .orElseThrow(() -> new InspectionNotFoundException(inspectionId));
+    }
+
+    private InspectionDetailDTO toDetailDTO(Inspection inspection) {
+        try {
             InspectionDetailDTO detailDTO = new InspectionDetailDTO();
             
             // 기본 정보 매핑
@@ -167,24 +211,30 @@ public class InspectionService {
             detailDTO.setOtherEquipment(inspection.getOtherEquipment());
             
             // 측정개소
-            detailDTO.setMeasurements(inspection.getMeasurements());
+            detailDTO.setMeasurements(MeasurementMapper.toDTOs(inspection.getMeasurements()));
             
             // 특이사항
             detailDTO.setSpecialNotes(inspection.getSpecialNotes());
             
             // 서명 정보 매핑 - 필드명 일치시키기
-            detailDTO.setSignature(inspection.getSignature());  // inspectorSignature가 아닌 signature
-            detailDTO.setManagerSignature(inspection.getManagerSignature());
+            // 서명 바이트는 읽지 않고 키와 조회 URL만 전달
+            detailDTO.setSignatureId(inspection.getSignatureId());
+            detailDTO.setManagerSignatureId(inspection.getManagerSignatureId());
+            detailDTO.setSignature(SignatureService.url(inspection.getSignatureId()));  // inspectorSignature가 아닌 signature
+            detailDTO.setManagerSignature(SignatureService.url(inspection.getManagerSignatureId()));
             
             // 이미지 데이터 처리
             if (inspection.getImages() != null && !inspection.getImages().isEmpty()) {
-                List<String> imagesList = new ObjectMapper().readValue(
+                List<String> imagesList = OBJECT_MAPPER.readValue(
                     inspection.getImages(),
                     new TypeReference<List<String>>() {}
                 );
                 detailDTO.setImages(imagesList);
             }
             
+            detailDTO.setVersion(inspection.getVersion());
+            detailDTO.setLastModifiedAt(inspection.getLastModifiedAt());
+            
             return detailDTO;
         } catch (JsonProcessingException e) {
             throw new RuntimeException("JSON 데이터 처리 중 오류 발생", e);
@@ -195,46 +245,63 @@ public class InspectionService {
         }
     }
     
+    /* 저장된 이미지 파일명 (수정 요청에 새로 들어온 파일명을 가려내는 데 사용) */
+    @Transactional(readOnly = true)
+    public List<String> getImageNames(Long id) {
+        return imageNames(inspectionRepository.findById(id)
+            .orElseThrow(() -> new InspectionNotFoundException(id)));
+    }
+
     @Transactional(readOnly = true)
     public List<InspectionListDTO> getAllInspections() {
-        return inspectionRepository.findAll().stream()
-            .map(inspection -> {
-                InspectionListDTO dto = new InspectionListDTO();
-                dto.setInspectionId(inspection.getInspectionId());
-                dto.setCompanyId(inspection.getCompany().getCompanyId());
-                dto.setInspectionDate(inspection.getInspectionDate());
-                dto.setManagerName(inspection.getManagerName());
-                return dto;
-            })
-            .collect(Collectors.toList());
+        return inspectionRepository.findAllListItems();
     }
 
     @Transactional(readOnly = true)
     public Page<InspectionBoardDTO> getInspections(Pageable pageable) {
-        return inspectionRepository.findAll(pageable)
-            .map(inspection -> {
-                InspectionBoardDTO dto = new InspectionBoardDTO();
-                dto.setInspectionId(inspection.getInspectionId());
-                dto.setCompanyName(inspection.getCompany().getCompanyName());  // 업체명 직접 가져오기
-                dto.setInspectionDate(inspection.getInspectionDate());
-                dto.setManagerName(inspection.getManagerName());
-                return dto;
-            });
+        return inspectionRepository.findBoardPage(pageable);
+    }
+
+    /* 커서 기반 목록 (최신순). cursor가 없으면 첫 페이지 */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<InspectionBoardDTO> scrollInspections(String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<InspectionBoardDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = inspectionRepository.findBoardFirst(page);
+        } else {
+            CursorCodec.Cursor after = CursorCodec.decode(cursor);
+            rows = after.date() != null
+                ? inspectionRepository.findBoardAfter(after.date(), after.id(), page)
+                : inspectionRepository.findBoardAfterUndated(after.id(), page);
+        }
+        return CursorPageDTO.of(rows, limit,
+            last -> CursorCodec.encode(last.getInspectionDate(), last.getInspectionId()));
+    }
+
+    // 업체별 점검 내역 (기간 내 최신순, 커서 기반). cursor가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public CursorPageDTO<InspectionListDTO> getInspectionsByCompany(Long companyId, LocalDate from, LocalDate to,
+                                                                    String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<InspectionListDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = inspectionRepository.findCompanyTimelineFirst(companyId, from, to, page);
+        } else {
+            CursorCodec.Cursor after = CursorCodec.decodeDated(cursor);
+            LocalDate upper = after.date().isBefore(to) ? after.date() : to;
+            rows = inspectionRepository.findCompanyTimelineAfter(companyId, from, upper, after.date(), after.id(), page);
+        }
+        return CursorPageDTO.of(rows, limit,
+            last -> CursorCodec.encode(last.getInspectionDate(), last.getInspectionId()));
     }
 
-    // 업체별 점검 내역 조회 메서드 추가
+    /* 기준 온도 이상인 측정값 조회 (온도 높은 순) */
     @Transactional(readOnly = true)
-    public List<InspectionListDTO> getInspectionsByCompany(Long companyId) {
-        return inspectionRepository.findByCompany_CompanyId(companyId).stream()
-            .map(inspection -> {
-                InspectionListDTO dto = new InspectionListDTO();
-                dto.setInspectionId(inspection.getInspectionId());
-                dto.setCompanyId(inspection.getCompany().getCompanyId());
-                dto.setInspectionDate(inspection.getInspectionDate());
-                dto.setManagerName(inspection.getManagerName());
-                return dto;
-            })
-            .collect(Collectors.toList());
+    public List<MeasurementAlertDTO> getOverTemperatureMeasurements(double threshold, Long companyId) {
+        return inspectionRepository.findMeasurementsOverTemperature(threshold, companyId);
     }
 
     @Transactional
@@ -242,10 +309,15 @@ public class InspectionService {
         Inspection inspection = inspectionRepository.findById(inspectionId)
             .orElseThrow(() -> new InspectionNotFoundException(inspectionId));
         
-        inspection.setManagerSignature(signature);
-        inspectionRepository.save(inspection);
+        inspection.setManagerSignatureId(signatureService.store(signature));
+        inspectionRepository.saveAndFlush(inspection);  // 응답에 증가된 version을 담기 위해 flush
+        // 커밋 후 등록 순서대로 실행된다. 상세 캐시를 먼저 비워야 PDF 버전이 오른 뒤 읽는 요청이
+        // 이전 상세 DTO로 렌더링한 결과를 새 버전으로 캐시하지 않는다
+        detailCacheService.invalidateAfterCommit(inspectionId);
+        pdfCacheService.invalidateAfterCommit(inspectionId);
         
-        return getInspectionDetail(inspectionId);
+        // 방금 수정한 엔티티로 바로 응답 (캐시를 거치지 않음)
+        return toDetailDTO(inspection);
     }
 
     @Transactional
@@ -253,6 +325,8 @@ public class InspectionService {
         try {
             Inspection inspection = inspectionRepository.findById(id)
                 .orElseThrow(() -> new InspectionNotFoundException(id));
+            ChecklistSummaryService.Snapshot before = ChecklistSummaryService.Snapshot.of(inspection);
+            List<String> imagesBefore = imageNames(inspection);
 
             // Company 정보 업데이트
             if (updateData.getCompanyId() != null) {
@@ -294,8 +368,8 @@ public class InspectionService {
 
             // 측정개소 업데이트
             if (updateData.getMeasurements() != null) {
-                String measurementsJson = new ObjectMapper().writeValueAsString(updateData.getMeasurements());
-                inspection.setMeasurements(measurementsJson);
+                inspection.getMeasurements().clear();
+                inspection.getMeasurements().addAll(toMeasurementRows(updateData.getMeasurements()));
             }
 
             // 특이사항 업데이트
@@ -303,50 +377,220 @@ public class InspectionService {
 
             // 서명 정보 업데이트 (기존 서명은 유지)
             if (updateData.getSignature() != null) {
-                inspection.setSignature(updateData.getSignature());
+                inspection.setSignatureId(signatureService.store(updateData.getSignature()));
             }
 
-            // 이미지 업데이트
+            // 이미지 업데이트 (빠진 이미지는 참조 수만 줄이고, 더 이상 쓰이지 않으면 나중에 정리된다)
             if (updateData.getImages() != null) {
-                inspection.setImages(new ObjectMapper().writeValueAsString(updateData.getImages()));
+                inspection.setImages(OBJECT_MAPPER.writeValueAsString(updateData.getImages()));
+                storedFileService.applyChange(StorageArea.INSPECTION_IMAGES, imagesBefore, updateData.getImages());
             }
 
-            Inspection updatedInspection = inspectionRepository.save(inspection);
-            return getInspectionDetail(updatedInspection.getInspectionId());
+            Inspection updatedInspection = inspectionRepository.saveAndFlush(inspection);
+            checklistSummaryService.applyChange(before, ChecklistSummaryService.Snapshot.of(updatedInspection));
+            searchIndexService.indexAfterCommit(SearchIndexService.Entry.of(updatedInspection));
+            detailCacheService.invalidateAfterCommit(id);
+            pdfCacheService.invalidateAfterCommit(id);
+            return toDetailDTO(updatedInspection);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("이미지 데이터 처리 중 오류 발생", e);
         }
     }
 
+    /* 부분 수정 (PATCH). changes에 있는 필드만 바꾸며, @DynamicUpdate로 바뀐 컬럼만 UPDATE 된다.
+     * expectedVersion이 현재 버전과 다르면 412, 커밋 시점에 다른 수정과 겹치면 409(낙관적 잠금) */
     @Transactional
-    public void deleteInspection(Long id) {
-        try {
-            Inspection inspection = inspectionRepository.findById(id)
-                .orElseThrow(() -> new InspectionNotFoundException(id));
-            
-            // 이미지 파일 삭제
-            if (inspection.getImages() != null && !inspection.getImages().isEmpty()) {
-                List<String> imagesList = new ObjectMapper().readValue(
-                    inspection.getImages(),
-                    new TypeReference<List<String>>() {}
-                );
-                for (String image : imagesList) {
-                    deleteImage(image);
+    public InspectionDetailDTO patchInspection(Long id, Long expectedVersion, Map<String, Object> changes) {
+        Inspection inspection = inspectionRepository.findById(id)
+            .orElseThrow(() -> new InspectionNotFoundException(id));
+        if (!Objects.equals(inspection.getVersion(), expectedVersion)) {
+            throw new PreconditionFailedException(expectedVersion, inspection.getVersion());
+        }
+
+        ChecklistSummaryService.Snapshot before = ChecklistSummaryService.Snapshot.of(inspection);
+        List<String> imagesBefore = imageNames(inspection);
+        changes.forEach((field, value) -> applyPatch(inspection, field, value));
+
+        Inspection patchedInspection = inspectionRepository.saveAndFlush(inspection);
+        checklistSummaryService.applyChange(before, ChecklistSummaryService.Snapshot.of(patchedInspection));
+        if (changes.containsKey("images")) {
+            storedFileService.applyChange(StorageArea.INSPECTION_IMAGES, imagesBefore, imageNames(patchedInspection));
+        }
+        searchIndexService.indexAfterCommit(SearchIndexService.Entry.of(patchedInspection));
+        detailCacheService.invalidateAfterCommit(id);
+        pdfCacheService.invalidateAfterCommit(id);
+        return toDetailDTO(patchedInspection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyPatch(Inspection inspection, String field, Object value) {
+        switch (field) {
+            case "version" -> { }   // If-Match 대신 본문으로 전달된 버전
+            case "companyId" -> {
+                Long companyId = toLong(field, value);
+                if (companyId == null) {
+                    throw new InvalidPatchException("업체는 비울 수 없습니다");
                 }
+                inspection.setCompany(companyRepository.findById(companyId)
+                    .orElseThrow(() -> new RuntimeException("Company not found")));
             }
-            
-            inspectionRepository.delete(inspection);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("이미지 데이터 처리 중 오류 발생", e);
+
+            // 기본 정보
+            case "inspectionDate" -> inspection.setInspectionDate(toDate(field, value));
+            case "managerName" -> inspection.setManagerName(toText(field, value));
+
+            // 기본사항
+            case "faucetVoltage" -> inspection.setFaucetVoltage(toInteger(field, value));
+            case "faucetCapacity" -> inspection.setFaucetCapacity(toInteger(field, value));
+            case "generationVoltage" -> inspection.setGenerationVoltage(toInteger(field, value));
+            case "generationCapacity" -> inspection.setGenerationCapacity(toInteger(field, value));
+            case "solarCapacity" -> inspection.setSolarCapacity(toInteger(field, value));
+            case "contractCapacity" -> inspection.setContractCapacity(toInteger(field, value));
+            case "inspectionType" -> inspection.setInspectionType(toText(field, value));
+            case "inspectionCount" -> inspection.setInspectionCount(toInteger(field, value));
+
+            // 점검내역
+            case "wiringInlet" -> inspection.setWiringInlet(toStatus(field, value));
+            case "distributionPanel" -> inspection.setDistributionPanel(toStatus(field, value));
+            case "moldedCaseBreaker" -> inspection.setMoldedCaseBreaker(toStatus(field, value));
+            case "earthLeakageBreaker" -> inspection.setEarthLeakageBreaker(toStatus(field, value));
+            case "switchGear" -> inspection.setSwitchGear(toStatus(field, value));
+            case "wiring" -> inspection.setWiring(toStatus(field, value));
+            case "motor" -> inspection.setMotor(toStatus(field, value));
+            case "heatingEquipment" -> inspection.setHeatingEquipment(toStatus(field, value));
+            case "welder" -> inspection.setWelder(toStatus(field, value));
+            case "capacitor" -> inspection.setCapacitor(toStatus(field, value));
+            case "lighting" -> inspection.setLighting(toStatus(field, value));
+            case "grounding" -> inspection.setGrounding(toStatus(field, value));
+            case "internalWiring" -> inspection.setInternalWiring(toStatus(field, value));
+            case "generator" -> inspection.setGenerator(toStatus(field, value));
+            case "otherEquipment" -> inspection.setOtherEquipment(toStatus(field, value));
+
+            // 측정개소 (전체 교체)
+            case "measurements" -> {
+                if (value != null && !(value instanceof List)) {
+                    throw new InvalidPatchException("measurements는 배열이어야 합니다");
+                }
+                if (value != null) {
+                    for (Object measurement : (List<?>) value) {
+                        if (!(measurement instanceof Map)) {
+                            throw new InvalidPatchException("measurements의 각 항목은 객체여야 합니다");
+                        }
+                    }
+                }
+                inspection.getMeasurements().clear();
+                inspection.getMeasurements().addAll(toMeasurementRows((List<Map<String, Object>>) value));
+            }
+
+            case "specialNotes" -> inspection.setSpecialNotes(toText(field, value));
+            case "signature" -> inspection.setSignatureId(signatureService.store(toText(field, value)));
+
+            // 이미지 파일명 목록 (전체 교체)
+            case "images" -> {
+                if (value != null && !(value instanceof List)) {
+                    throw new InvalidPatchException("images는 배열이어야 합니다");
+                }
+                try {
+                    inspection.setImages(value != null ? OBJECT_MAPPER.writeValueAsString(value) : null);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("이미지 데이터 처리 중 오류 발생", e);
+                }
+            }
+
+            default -> throw new InvalidPatchException("수정할 수 없는 필드입니다: " + field);
+        }
+    }
+
+    private String toText(String field, Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new InvalidPatchException(field + " 값은 문자열이어야 합니다");
+        }
+        return (String) value;
+    }
+
+    private Integer toInteger(String field, Object value) {
+        Long number = toLong(field, value);
+        if (number == null) {
+            return null;
+        }
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw new InvalidPatchException(field + " 값이 너무 큽니다");
         }
+        return number.intValue();
     }
 
-    private void deleteImage(String imageName) {
+    // 정수만 (1.5처럼 소수부가 있거나 long 범위를 넘으면 잘라내지 않고 거절)
+    private Long toLong(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return new BigDecimal(value.toString().trim()).longValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new InvalidPatchException(field + " 값은 정수여야 합니다");
+        }
+    }
+
+    private LocalDate toDate(String field, Object value) {
+        if (value == null) {
+            return null;
+        }
         try {
-            Path imagePath = Paths.get("/root/inspection-app/backend/uploads/images").resolve(imageName);
-            Files.deleteIfExists(imagePath);
-        } catch (IOException e) {
-            log.error("이미지 파일 삭제 실패: {}", e.getMessage());
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException e) {
+            throw new InvalidPatchException(field + " 값은 yyyy-MM-dd 형식이어야 합니다");
+        }
+    }
+
+    // 점검내역 상태 코드 (O, X, /)
+    private Character toStatus(String field, Object value) {
+        String text = toText(field, value);
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        if (!STATUS_CODES.contains(text)) {
+            throw new InvalidPatchException(field + " 값은 O, X, / 중 하나여야 합니다");
+        }
+        return text.charAt(0);
+    }
+
+    // 측정개소 -> 상별 행. 행으로 옮기지 못한 값이 있으면 버리지 않고 400
+    private static List<InspectionMeasurement> toMeasurementRows(List<Map<String, Object>> measurements) {
+        List<String> rejected = new ArrayList<>();
+        List<InspectionMeasurement> rows = MeasurementMapper.toRows(measurements, rejected);
+        if (!rejected.isEmpty()) {
+            throw new InvalidMeasurementException(rejected);
+        }
+        return rows;
+    }
+
+    @Transactional
+    public void deleteInspection(Long id) {
+        Inspection inspection = inspectionRepository.findById(id)
+            .orElseThrow(() -> new InspectionNotFoundException(id));
+        
+        // 이미지 참조 해제 (다른 점검/공지가 같은 파일을 쓰지 않으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.INSPECTION_IMAGES, imageNames(inspection), null);
+        
+        checklistSummaryService.applyChange(ChecklistSummaryService.Snapshot.of(inspection), null);
+        inspectionRepository.delete(inspection);
+        searchIndexService.removeAfterCommit(ReportType.INSPECTION, id);
+        detailCacheService.invalidateAfterCommit(id);
+        pdfCacheService.invalidateAfterCommit(id);
+    }
+
+    /* 저장된 이미지 JSON -> 파일명 목록 */
+    private List<String> imageNames(Inspection inspection) {
+        if (inspection.getImages() == null || inspection.getImages().isEmpty()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(inspection.getImages(), new TypeReference<List<String>>() {});
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("이미지 데이터 처리 중 오류 발생", e);
         }
     }
 } 
\ No newline at end of file
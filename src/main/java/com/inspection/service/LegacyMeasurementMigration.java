@@ -0,0 +1,153 @@
+package com.inspection.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.entity.InspectionMeasurement;
+import com.inspection.entity.LegacyMigration;
+import com.inspection.repository.LegacyMigrationRepository;
+import com.inspection.util.MeasurementMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 기존 inspection.measurements(JSON) 컬럼을 inspection_measurements 행으로 옮기는 일회성 작업
+ * 시작 시 실행되며, 옮긴 점검은 legacy_migrations에 기록하므로 다시 실행해도 중복되지 않는다.
+ * JSON 컬럼은 비우지 않는다: 숫자가 아닌 값("-", "220V" 등)이나 값 없는 개소는 행으로 옮길 수 없으므로
+ * 하나하나 로그로 남기고 PARTIAL로 기록해 두며, 컬럼 삭제는 결과를 확인한 뒤 운영에서 별도로 한다.
+ * 서버가 요청을 받는 중에 돌 수 있으므로 행을 옮긴 점검은 version/last_modified_at을 올리고 상세/PDF 캐시를 무효화한다. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyMeasurementMigration implements ApplicationRunner {
+
+    private static final String SOURCE = "inspection.measurements";
+
+    private static final String INSERT_ROW =
+        "INSERT INTO inspection_measurements " +
+        "(inspection_id, seq, point_no, location, phase, voltage, current, temperature) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LegacyMigrationRepository legacyMigrationRepository;
+    private final InspectionDetailCacheService detailCacheService;
+    private final PdfCacheService pdfCacheService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!legacyColumnExists()) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT i.inspection_id FROM inspection i WHERE i.measurements IS NOT NULL AND NOT EXISTS " +
+            "(SELECT 1 FROM legacy_migrations m WHERE m.source = ? AND m.row_id = i.inspection_id)",
+            Long.class, SOURCE);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        log.info("측정개소 JSON -> inspection_measurements 이전 시작: {}건", ids.size());
+        ObjectMapper mapper = new ObjectMapper();
+        int migrated = 0;
+        int partial = 0;
+        int rejectedValues = 0;
+        for (Long id : ids) {
+            try {
+                List<String> rejected = transactionTemplate.execute(status -> migrate(mapper, id));
+                migrated++;
+                if (rejected != null && !rejected.isEmpty()) {
+                    partial++;
+                    rejectedValues += rejected.size();
+                    for (String value : rejected) {
+                        log.warn("측정개소 값을 옮기지 못함 (ID: {}): {}", id, value);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("측정개소 이전 실패, 다음 시작 시 재시도 (ID: {}): {}", id, e.getMessage());
+            }
+        }
+        log.info("측정개소 이전 완료: {}/{}건 (일부 값 누락 {}건, 옮기지 못한 값 {}개). " +
+            "JSON 컬럼은 그대로 두었으며 legacy_migrations의 PARTIAL 행을 확인한 뒤 삭제한다",
+            migrated, ids.size(), partial, rejectedValues);
+    }
+
+    /* 한 점검을 옮기고 옮기지 못한 값 목록을 돌려준다 */
+    private List<String> migrate(ObjectMapper mapper, Long inspectionId) {
+        String json = jdbcTemplate.queryForObject(
+            "SELECT measurements FROM inspection WHERE inspection_id = ?", String.class, inspectionId);
+
+        // 이미 새 테이블에 행이 있으면 (화면에서 다시 저장된 경우) JSON은 버린다
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM inspection_measurements WHERE inspection_id = ?", Integer.class, inspectionId);
+        List<String> rejected = new ArrayList<>();
+        if (json != null && existing != null && existing == 0) {
+            List<InspectionMeasurement> rows = MeasurementMapper.toRows(parse(mapper, json), rejected);
+            jdbcTemplate.batchUpdate(INSERT_ROW, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    InspectionMeasurement row = rows.get(i);
+                    ps.setLong(1, inspectionId);
+                    ps.setInt(2, i);    // @OrderColumn(seq)
+                    ps.setInt(3, row.getPointNo());
+                    ps.setString(4, row.getLocation());
+                    ps.setString(5, row.getPhase());
+                    ps.setObject(6, row.getVoltage());
+                    ps.setObject(7, row.getCurrent());
+                    ps.setObject(8, row.getTemperature());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            });
+            if (!rows.isEmpty()) {
+                jdbcTemplate.update("UPDATE inspection SET version = version + 1, last_modified_at = ? " +
+                    "WHERE inspection_id = ?", LocalDateTime.now(), inspectionId);
+                detailCacheService.invalidateAfterCommit(inspectionId);
+                pdfCacheService.invalidateAfterCommit(inspectionId);
+            }
+        }
+
+        LegacyMigration record = new LegacyMigration();
+        record.setSource(SOURCE);
+        record.setRowId(inspectionId);
+        record.setStatus(rejected.isEmpty() ? "DONE" : "PARTIAL");
+        record.setDetail(rejected.isEmpty() ? null : String.join("\n", rejected));
+        record.setMigratedAt(LocalDateTime.now());
+        legacyMigrationRepository.save(record);
+        return rejected;
+    }
+
+    private List<Map<String, Object>> parse(ObjectMapper mapper, String json) {
+        try {
+            return mapper.readValue(json, new TypeReference<List<Map<String, Object>>>() {});
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("측정개소 JSON 형식 오류", e);
+        }
+    }
+
+    private boolean legacyColumnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'inspection' AND column_name = 'measurements'",
+            Integer.class);
+        return count != null && count > 0;
+    }
+}
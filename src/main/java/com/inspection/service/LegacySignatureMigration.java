@@ -0,0 +1,141 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.entity.LegacyMigration;
+import com.inspection.report.ReportType;
+import com.inspection.repository.LegacyMigrationRepository;
+import com.inspection.storage.StorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 기존 점검 행의 LONGTEXT 서명 컬럼을 signatures 테이블로 옮기는 일회성 작업
+ * 값은 캔버스의 data URL이거나, 예전 데이터는 uploads/signatures/ 아래 파일명이다 (파일은 디스크에서 읽는다).
+ * 옮긴 행은 legacy_migrations에 기록하므로 다시 실행해도 중복되지 않는다. 기존 컬럼은 비우지 않으며,
+ * 옮기지 못한 행은 로그로 남기고 다음 시작 시 다시 시도한다. 컬럼 삭제는 결과를 확인한 뒤 운영에서 별도로 한다.
+ * 서버가 요청을 받는 중에 돌 수 있으므로 옮긴 행은 version/last_modified_at을 올리고 상세/PDF 캐시를 무효화한다
+ * (이전 버전으로 캐시된 응답이나 If-Match 수정이 옮기기 전 상태를 기준으로 남지 않도록). */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacySignatureMigration implements ApplicationRunner {
+
+    private static final String SIGNATURE_DIR = "signatures/";
+
+    /* 테이블, PK, 기존 컬럼, 새 컬럼 */
+    private static final List<String[]> COLUMNS = List.of(
+        new String[]{"inspection", "inspection_id", "signature", "signature_id"},
+        new String[]{"inspection", "inspection_id", "manager_signature", "manager_signature_id"},
+        new String[]{"fire_safety_inspections", "fire_inspection_id", "inspector_signature", "inspector_signature_id"},
+        new String[]{"fire_safety_inspections", "fire_inspection_id", "manager_signature", "manager_signature_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SignatureService signatureService;
+    private final StorageService storageService;
+    private final LegacyMigrationRepository legacyMigrationRepository;
+    private final InspectionDetailCacheService detailCacheService;
+    private final PdfCacheService pdfCacheService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String[] column : COLUMNS) {
+            migrateColumn(column[0], column[1], column[2], column[3]);
+        }
+    }
+
+    private void migrateColumn(String table, String idColumn, String legacyColumn, String targetColumn) {
+        if (!legacyColumnExists(table, legacyColumn)) {
+            return;
+        }
+
+        String source = table + "." + legacyColumn;
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT t." + idColumn + " FROM " + table + " t WHERE t." + legacyColumn + " IS NOT NULL AND NOT EXISTS " +
+            "(SELECT 1 FROM legacy_migrations m WHERE m.source = ? AND m.row_id = t." + idColumn + ")",
+            Long.class, source);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        log.info("서명 이전 시작 ({}): {}건", source, ids.size());
+        int migrated = 0;
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    String value = jdbcTemplate.queryForObject(
+                        "SELECT " + legacyColumn + " FROM " + table + " WHERE " + idColumn + " = ?", String.class, id);
+                    String signatureId = store(value);
+                    // 이미 새 컬럼에 값이 있으면 (화면에서 다시 저장된 경우) 그대로 둔다
+                    if (signatureId != null && jdbcTemplate.update(
+                            "UPDATE " + table + " SET " + targetColumn + " = ?, version = version + 1, " +
+                            "last_modified_at = ? WHERE " + idColumn + " = ? AND " + targetColumn + " IS NULL",
+                            signatureId, LocalDateTime.now(), id) > 0) {
+                        invalidateAfterCommit(table, id);
+                    }
+
+                    LegacyMigration record = new LegacyMigration();
+                    record.setSource(source);
+                    record.setRowId(id);
+                    record.setStatus("DONE");
+                    record.setMigratedAt(LocalDateTime.now());
+                    legacyMigrationRepository.save(record);
+                });
+                migrated++;
+            } catch (RuntimeException e) {
+                log.warn("서명 이전 실패, 기존 값은 그대로 두고 다음 시작 시 재시도 ({} ID: {}): {}",
+                    table, id, e.getMessage());
+            }
+        }
+        log.info("서명 이전 완료 ({}): {}/{}건", source, migrated, ids.size());
+    }
+
+    /* 커밋 후 옮긴 행의 캐시 무효화 (상세 캐시 먼저) */
+    private void invalidateAfterCommit(String table, Long id) {
+        if ("inspection".equals(table)) {
+            detailCacheService.invalidateAfterCommit(id);
+            pdfCacheService.invalidateAfterCommit(id);
+        } else {
+            pdfCacheService.invalidateAfterCommit(ReportType.FIRE_SAFETY, id);
+        }
+    }
+
+    /* data URL은 그대로, 그 밖의 값은 예전 서명 파일명으로 보고 파일을 읽어 저장한다 */
+    private String store(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.startsWith("data:")) {
+            return signatureService.store(value);
+        }
+        Path file = value.contains("/") ? null : storageService.resolvePublic(SIGNATURE_DIR + value);
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalStateException("서명 파일을 찾을 수 없습니다: " + value);
+        }
+        try {
+            return signatureService.storeImage(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new IllegalStateException("서명 파일을 읽을 수 없습니다: " + value, e);
+        }
+    }
+
+    private boolean legacyColumnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+            Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
@@ -1,13 +1,9 @@
 package com.inspection.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -23,6 +19,9 @@ import com.inspection.entity.Notice;
 import com.inspection.entity.User;
 import com.inspection.repository.NoticeRepository;
 import com.inspection.repository.UserRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,7 +30,8 @@ import lombok.RequiredArgsConstructor;
 public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
-    private final String uploadDir = "uploads/images/";
+    private final StoredFileService storedFileService;
+    private final StorageService storageService;
     private static final Logger log = LoggerFactory.getLogger(NoticeService.class);
 
     @Transactional
@@ -50,32 +50,22 @@ public class NoticeService {
         notice.setPopupEndDate(popupEndDate);
         
         if (images != null && !images.isEmpty()) {
-            List<String> imageUrls = new ArrayList<>();
-            for (MultipartFile image : images) {
-                if (!image.isEmpty()) {
-                    String imageUrl = saveImage(image);
-                    imageUrls.add(imageUrl);
-                }
-            }
-            notice.setImageUrls(imageUrls);
+            notice.setImageUrls(saveImages(images));
         }
         
         Notice savedNotice = noticeRepository.save(notice);
+        storedFileService.applyChange(StorageArea.NOTICE_IMAGES, null, savedNotice.getImageUrls());
         return convertToDTO(savedNotice);
     }
 
-    private String saveImage(MultipartFile image) {
+    /* 빈 파일을 제외하고 저장한 뒤 파일명 목록 반환 */
+    private List<String> saveImages(List<MultipartFile> images) {
         try {
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            List<String> fileNames = new ArrayList<>();
+            for (StorageKey key : storageService.store(StorageArea.NOTICE_IMAGES, images)) {
+                fileNames.add(key.name());
             }
-
-            String filename = UUID.randomUUID().toString() + "_" + image.getOriginalFilename();
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(image.getInputStream(), filePath);
-
-            return filename;
+            return fileNames;
         } catch (IOException e) {
             throw new RuntimeException("이미지 파일 저장 실패: " + e.getMessage(), e);
         } catch (SecurityException e) {
@@ -106,26 +96,12 @@ public class NoticeService {
         Long currentUserId = getCurrentUserId();
         validateWriter(notice, currentUserId);
         
-        // 이미지가 있다면 파일 시스템에서도 삭제
-        if (notice.getImageUrls() != null && !notice.getImageUrls().isEmpty()) {
-            for (String imageUrl : notice.getImageUrls()) {
-                deleteImage(imageUrl);
-            }
-        }
+        // 이미지 참조 해제 (같은 파일을 쓰는 곳이 없으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.NOTICE_IMAGES, notice.getImageUrls(), null);
         
         noticeRepository.deleteById(noticeId);
     }
 
-    private void deleteImage(String imageUrl) {
-        try {
-            Path imagePath = Paths.get(uploadDir).resolve(imageUrl);
-            Files.deleteIfExists(imagePath);
-        } catch (IOException e) {
-            // 파일 삭제 실패는 로그만 남기고 계속 진행
-            log.error("이미지 파일 삭제 실패: {}", e.getMessage());
-        }
-    }
-
     @Transactional(readOnly = true)
     public NoticeDTO getNotice(Long noticeId) {
         Notice notice = noticeRepository.findById(noticeId)
@@ -153,25 +129,12 @@ public class NoticeService {
         notice.setPopupStartDate(popupStartDate);
         notice.setPopupEndDate(popupEndDate);
         
-        // 현재 저장된 이미지 중 유지되지 않는 이미지 삭제
-        List<String> currentImages = notice.getImageUrls();
-        if (currentImages != null) {
-            for (String oldImage : currentImages) {
-                if (!existingImages.contains(oldImage)) {
-                    deleteImage(oldImage);
-                }
-            }
-        }
-        
         // 새로운 이미지 저장
         List<String> updatedImageUrls = new ArrayList<>(existingImages);
-        for (MultipartFile newImage : newImages) {
-            if (!newImage.isEmpty()) {
-                String imageUrl = saveImage(newImage);
-                updatedImageUrls.add(imageUrl);
-            }
-        }
+        updatedImageUrls.addAll(saveImages(newImages));
         
+        // 유지되지 않는 이미지는 참조 수만 줄인다 (같은 파일을 쓰는 곳이 없으면 나중에 정리된다)
+        storedFileService.applyChange(StorageArea.NOTICE_IMAGES, notice.getImageUrls(), updatedImageUrls);
         notice.setImageUrls(updatedImageUrls);
         
         Notice updatedNotice = noticeRepository.save(notice);
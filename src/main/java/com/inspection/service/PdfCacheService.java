@@ -0,0 +1,351 @@
+package com.inspection.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inspection.dto.CacheStatsDTO;
+import com.inspection.report.ReportType;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/* 렌더링된 점검 결과서 PDF 캐시
+ * 메모리(LRU) -> 디스크(LRU) 순으로 조회하고, 둘 다 없을 때만 새로 렌더링한다.
+ * 키는 "결과서종류_ID_버전"이며 수정/서명/삭제 시 버전을 올려 이전 결과물을 무효화한다.
+ * 조회/렌더링은 호출자가 데이터를 읽기 전에 currentVersion으로 얻은 버전을 넘겨야 한다.
+ * 데이터를 읽은 뒤의 버전으로 저장하면 그 사이 수정된 경우 이전 내용이 새 버전으로 캐시된다.
+ * ReportType 없이 호출하는 메서드는 전기설비 점검(INSPECTION) 결과서 기준이다.
+ * 큰 PDF는 디스크에만 두고 스트리밍하므로 다운로드당 힙 사용량이 PDF 크기와 무관하다. */
+@Service
+@Slf4j
+public class PdfCacheService {
+
+    @Value("${pdf.cache.dir:cache/pdf}")
+    private String cacheDir;
+
+    @Value("${pdf.cache.memory-max-bytes:67108864}")
+    private long memoryMaxBytes;        // 기본 64MB
+
+    @Value("${pdf.cache.memory-entry-max-bytes:1048576}")
+    private long memoryEntryMaxBytes;   // 이보다 큰 PDF는 메모리에 올리지 않음 (기본 1MB)
+
+    @Value("${pdf.cache.disk-max-bytes:1073741824}")
+    private long diskMaxBytes;          // 기본 1GB
+
+    private Path cachePath;
+
+    // "결과서종류_ID"별 현재 콘텐츠 버전
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    // accessOrder=true 로 LRU 순서 유지 (접근은 모두 synchronized)
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /* PDF를 출력 스트림에 렌더링하는 작업 */
+    @FunctionalInterface
+    public interface PdfRenderer {
+        void render(OutputStream out) throws IOException;
+    }
+
+    /* 캐시에서 꺼낸 PDF. 디스크 항목은 조회 시점에 열어 두므로 이후 제거되어도 끝까지 읽을 수 있다 */
+    public static class CachedPdf {
+        private final InputStream content;
+        private final long length;
+
+        CachedPdf(InputStream content, long length) {
+            this.content = content;
+            this.length = length;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = content) {
+                in.transferTo(out);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        cachePath = Paths.get(cacheDir);
+        Files.createDirectories(cachePath);
+        // 버전 정보는 메모리에만 있으므로 재시작 시 이전 파일은 신뢰할 수 없다
+        try (Stream<Path> files = Files.list(cachePath)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    /* 캐시 조회. 없으면 null (미적중으로 집계) */
+    public CachedPdf lookup(Long inspectionId, long version) {
+        return lookup(ReportType.INSPECTION, inspectionId, version);
+    }
+
+    public CachedPdf lookup(ReportType type, Long id, long version) {
+        String key = key(type, id, version);
+
+        byte[] cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return new CachedPdf(new ByteArrayInputStream(cached), cached.length);
+        }
+
+        Long size;
+        synchronized (disk) {
+            size = disk.get(key);
+        }
+        if (size != null) {
+            try {
+                InputStream in = Files.newInputStream(filePath(key));
+                hitCount.incrementAndGet();
+                return new CachedPdf(in, size);
+            } catch (NoSuchFileException e) {
+                // 조회와 동시에 제거된 경우 미적중으로 처리
+            } catch (IOException e) {
+                log.warn("PDF 캐시 파일 읽기 실패: {}", e.getMessage());
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /* out으로 렌더링하면서 같은 바이트를 캐시 파일에도 기록 (version은 데이터를 읽기 전에 얻은 버전) */
+    public void renderThrough(Long inspectionId, long version, OutputStream out, PdfRenderer renderer)
+            throws IOException {
+        renderThrough(ReportType.INSPECTION, inspectionId, version, out, renderer);
+    }
+
+    public void renderThrough(ReportType type, Long id, long version, OutputStream out, PdfRenderer renderer)
+            throws IOException {
+        String key = key(type, id, version);
+
+        Path temp = Files.createTempFile(cachePath, key, ".tmp");
+        long length;
+        try {
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                TeeOutputStream tee = new TeeOutputStream(out, file);
+                renderer.render(tee);
+                tee.flush();
+                length = tee.getCount();
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        // 데이터를 읽은 뒤나 렌더링 도중 무효화되었다면 오래된 결과이므로 저장하지 않는다
+        if (version != currentVersion(type, id) || length > diskMaxBytes) {
+            deleteQuietly(temp);
+            return;
+        }
+        store(key, temp, length);
+    }
+
+    /* 해당 점검의 캐시 무효화 */
+    public void invalidate(Long inspectionId) {
+        invalidate(ReportType.INSPECTION, inspectionId);
+    }
+
+    public void invalidate(ReportType type, Long id) {
+        long oldVersion = currentVersion(type, id);
+        versions.merge(versionKey(type, id), 1L, Long::sum);
+        String key = key(type, id, oldVersion);
+
+        synchronized (memory) {
+            byte[] removed = memory.remove(key);
+            if (removed != null) {
+                memoryBytes -= removed.length;
+            }
+        }
+        synchronized (disk) {
+            Long size = disk.remove(key);
+            if (size != null) {
+                diskBytes -= size;
+                deleteQuietly(filePath(key));
+            }
+        }
+    }
+
+    /* 트랜잭션 커밋 이후에 무효화 (트랜잭션 밖이면 즉시 수행) */
+    public void invalidateAfterCommit(Long inspectionId) {
+        invalidateAfterCommit(ReportType.INSPECTION, inspectionId);
+    }
+
+    public void invalidateAfterCommit(ReportType type, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(type, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(type, id);
+            }
+        });
+    }
+
+    public CacheStatsDTO getStats() {
+        long entries;
+        long bytes;
+        synchronized (memory) {
+            entries = memory.size();
+            bytes = memoryBytes;
+        }
+        synchronized (disk) {
+            entries += disk.size();
+            bytes += diskBytes;
+        }
+        return new CacheStatsDTO("pdf", hitCount.get(), missCount.get(),
+            evictionCount.get(), entries, bytes);
+    }
+
+    /* 점검의 현재 콘텐츠 버전 (수정될 때마다 증가) */
+    public long currentVersion(Long inspectionId) {
+        return currentVersion(ReportType.INSPECTION, inspectionId);
+    }
+
+    public long currentVersion(ReportType type, Long id) {
+        return versions.getOrDefault(versionKey(type, id), 0L);
+    }
+
+    private String versionKey(ReportType type, Long id) {
+        return type.getPrefix() + "_" + id;
+    }
+
+    private String key(ReportType type, Long id, long version) {
+        return versionKey(type, id) + "_" + version;
+    }
+
+    private Path filePath(String key) {
+        return cachePath.resolve(key + ".pdf");
+    }
+
+    private void store(String key, Path temp, long length) {
+        try {
+            Files.move(temp, filePath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("PDF 캐시 파일 저장 실패: {}", e.getMessage());
+            deleteQuietly(temp);
+            return;
+        }
+        putOnDisk(key, length);
+
+        if (length <= memoryEntryMaxBytes) {
+            try {
+                putInMemory(key, Files.readAllBytes(filePath(key)));
+            } catch (IOException e) {
+                log.warn("PDF 캐시 파일 읽기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void putInMemory(String key, byte[] pdf) {
+        synchronized (memory) {
+            byte[] previous = memory.put(key, pdf);
+            memoryBytes += pdf.length - (previous != null ? previous.length : 0);
+
+            Iterator<Map.Entry<String, byte[]>> it = memory.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                memoryBytes -= eldest.getValue().length;
+                it.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void putOnDisk(String key, long length) {
+        synchronized (disk) {
+            Long previous = disk.put(key, length);
+            diskBytes += length - (previous != null ? previous : 0L);
+
+            Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+            while (diskBytes > diskMaxBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                diskBytes -= eldest.getValue();
+                deleteQuietly(filePath(eldest.getKey()));
+                it.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("PDF 캐시 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /* 두 스트림에 동시에 기록하면서 기록한 바이트 수를 센다 */
+    private static class TeeOutputStream extends FilterOutputStream {
+        private final OutputStream branch;
+        private long count;
+
+        TeeOutputStream(OutputStream out, OutputStream branch) {
+            super(out);
+            this.branch = branch;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            branch.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            branch.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            branch.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
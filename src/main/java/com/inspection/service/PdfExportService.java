@@ -0,0 +1,270 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.inspection.dto.InspectionDetailDTO;
+import com.inspection.dto.PdfExportProgressDTO;
+import com.inspection.exception.ServiceBusyException;
+import com.inspection.repository.InspectionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 업체/기간별 점검 결과서 일괄 ZIP 내보내기
+ * 전용 스레드 풀에서 병렬로 렌더링하고, 완료되는 순서대로 ZIP 스트림에 기록한다.
+ * 동시에 진행 가능한 내보내기 수와 내보내기당 동시 렌더링 수를 제한한다.
+ * 내보내기 슬롯은 export() 한 메서드 안에서 확보하고 반환한다. */
+@Service
+@Slf4j
+public class PdfExportService {
+
+    private static final long FINISHED_RETENTION_MINUTES = 60;
+
+    private final InspectionRepository inspectionRepository;
+    private final InspectionService inspectionService;
+    private final PdfService pdfService;
+    private final PdfCacheService pdfCacheService;
+    private final ThreadPoolTaskExecutor pdfRenderExecutor;
+    private final Semaphore exportSlots;
+    private final int maxInFlight;
+
+    private final Map<String, ExportState> exports = new ConcurrentHashMap<>();
+
+    public PdfExportService(
+        InspectionRepository inspectionRepository,
+        InspectionService inspectionService,
+        PdfService pdfService,
+        PdfCacheService pdfCacheService,
+        @Qualifier("pdfRenderExecutor") ThreadPoolTaskExecutor pdfRenderExecutor,
+        @Value("${pdf.export.max-concurrent-exports:2}") int maxConcurrentExports,
+        @Value("${pdf.export.max-in-flight:2}") int maxInFlight
+    ) {
+        this.inspectionRepository = inspectionRepository;
+        this.inspectionService = inspectionService;
+        this.pdfService = pdfService;
+        this.pdfCacheService = pdfCacheService;
+        this.pdfRenderExecutor = pdfRenderExecutor;
+        this.exportSlots = new Semaphore(maxConcurrentExports);
+        this.maxInFlight = maxInFlight;
+    }
+
+    /* ZIP을 쓸 곳. 내보내기 ID를 받아 응답 헤더 등을 준비하고 출력 스트림을 돌려준다 */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open(PdfExportProgressDTO export) throws IOException;
+    }
+
+    /* 슬롯을 확보하고 대상 점검 목록을 조회한 뒤 ZIP을 target에 기록 (어떻게 끝나든 여기서 슬롯 반환) */
+    public void export(Long companyId, LocalDate startDate, LocalDate endDate, ExportTarget target) throws IOException {
+        if (!exportSlots.tryAcquire()) {
+            throw new ServiceBusyException("진행 중인 일괄 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            purgeFinished();
+            List<Long> inspectionIds = inspectionRepository.findIdsByCompanyAndDateRange(
+                companyId, startDate, endDate);
+
+            ExportState state = new ExportState(UUID.randomUUID().toString(),
+                companyId, startDate, endDate, inspectionIds);
+            exports.put(state.exportId, state);
+            writeZip(state, target);
+        } finally {
+            exportSlots.release();
+        }
+    }
+
+    private void writeZip(ExportState state, ExportTarget target) throws IOException {
+        CompletionService<RenderedPdf> completion = new ExecutorCompletionService<>(pdfRenderExecutor);
+        Iterator<Long> pending = state.inspectionIds.iterator();
+        int inFlight = 0;
+        try {
+            ZipOutputStream zip = new ZipOutputStream(target.open(state.toDTO()), StandardCharsets.UTF_8);
+            // PDF는 이미 압축되어 있으므로 CPU를 아끼기 위해 최저 압축 수준 사용
+            zip.setLevel(Deflater.BEST_SPEED);
+
+            while (inFlight < maxInFlight && pending.hasNext()) {
+                submit(completion, pending.next());
+                inFlight++;
+            }
+
+            while (inFlight > 0) {
+                RenderedPdf rendered = completion.take().get();
+                inFlight--;
+                if (pending.hasNext()) {
+                    submit(completion, pending.next());
+                    inFlight++;
+                }
+
+                if (rendered.file() == null) {
+                    state.failures.add(rendered.inspectionId() + ": " + rendered.error());
+                    state.failedCount.incrementAndGet();
+                    continue;
+                }
+                try {
+                    zip.putNextEntry(new ZipEntry("inspection_" + rendered.inspectionId() + ".pdf"));
+                    Files.copy(rendered.file(), zip);
+                    zip.closeEntry();
+                } finally {
+                    deleteQuietly(rendered.file());
+                }
+                state.completedCount.incrementAndGet();
+            }
+
+            if (!state.failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("errors.txt"));
+                zip.write(String.join("\n", state.failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+            state.status = "COMPLETED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.status = "FAILED";
+            throw new IOException("일괄 내보내기가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            state.status = "FAILED";
+            throw new IOException("일괄 내보내기 중 오류 발생", e);
+        } catch (IOException | RuntimeException e) {
+            // 클라이언트 연결 종료 등
+            state.status = "FAILED";
+            throw e;
+        } finally {
+            discardInFlight(completion, inFlight);
+            state.finishedAt = LocalDateTime.now();
+            log.info("일괄 내보내기 {} 종료: 상태={}, 완료={}, 실패={}, 전체={}", state.exportId, state.status,
+                state.completedCount.get(), state.failedCount.get(), state.inspectionIds.size());
+        }
+    }
+
+    public PdfExportProgressDTO getProgress(String exportId) {
+        ExportState state = exports.get(exportId);
+        return state != null ? state.toDTO() : null;
+    }
+
+    private void submit(CompletionService<RenderedPdf> completion, Long inspectionId) {
+        completion.submit(() -> render(inspectionId));
+    }
+
+    /* 작업 스레드에서 실행: 캐시 또는 새 렌더링 결과를 임시 파일로 만든다 */
+    private RenderedPdf render(Long inspectionId) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("inspection_" + inspectionId + "_", ".pdf");
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                // 캐시 버전은 데이터를 읽기 전에 잡는다
+                long version = pdfCacheService.currentVersion(inspectionId);
+                PdfCacheService.CachedPdf cached = pdfCacheService.lookup(inspectionId, version);
+                if (cached != null) {
+                    cached.writeTo(file);
+                } else {
+                    InspectionDetailDTO data = inspectionService.getInspectionDetail(inspectionId);
+                    pdfCacheService.renderThrough(inspectionId, version, file,
+                        pdf -> pdfService.writeInspectionPdf(data, pdf));
+                }
+            }
+            return new RenderedPdf(inspectionId, temp, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("일괄 내보내기 중 PDF 생성 실패 (ID: {}): {}", inspectionId, e.getMessage());
+            deleteQuietly(temp);
+            return new RenderedPdf(inspectionId, null, e.getMessage());
+        }
+    }
+
+    /* 중단된 경우 아직 실행 중인 렌더링 결과를 회수하여 임시 파일 정리 */
+    private void discardInFlight(CompletionService<RenderedPdf> completion, int inFlight) {
+        for (int i = 0; i < inFlight; i++) {
+            try {
+                RenderedPdf rendered = completion.take().get();
+                deleteQuietly(rendered.file());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // render()는 예외를 결과로 돌려주므로 도달하지 않음
+            }
+        }
+    }
+
+    private void purgeFinished() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(FINISHED_RETENTION_MINUTES);
+        exports.values().removeIf(state ->
+            state.finishedAt != null && state.finishedAt.isBefore(threshold));
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 PDF 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private record RenderedPdf(Long inspectionId, Path file, String error) {
+    }
+
+    private static class ExportState {
+        private final String exportId;
+        private final Long companyId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final List<Long> inspectionIds;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger completedCount = new AtomicInteger();
+        private final AtomicInteger failedCount = new AtomicInteger();
+        private final ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+
+        ExportState(String exportId, Long companyId, LocalDate startDate, LocalDate endDate,
+                    List<Long> inspectionIds) {
+            this.exportId = exportId;
+            this.companyId = companyId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.inspectionIds = inspectionIds;
+        }
+
+        PdfExportProgressDTO toDTO() {
+            PdfExportProgressDTO dto = new PdfExportProgressDTO();
+            dto.setExportId(exportId);
+            dto.setCompanyId(companyId);
+            dto.setStartDate(startDate);
+            dto.setEndDate(endDate);
+            dto.setStatus(status);
+            dto.setTotalCount(inspectionIds.size());
+            dto.setCompletedCount(completedCount.get());
+            dto.setFailedCount(failedCount.get());
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.inspection.dto.InspectionDetailDTO;
+import com.inspection.dto.PdfJobDTO;
+import com.inspection.exception.InspectionNotFoundException;
+import com.inspection.exception.ServiceBusyException;
+import com.inspection.repository.InspectionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/* 비동기 PDF 생성 작업
+ * 요청 스레드는 작업 ID만 받아 즉시 반환하고, 전용 스레드 풀이 uploads/pdf 에 결과 파일을 만든다.
+ * 완료된 파일은 정적 리소스 핸들러(/pdf/**)가 제공한다.
+ * 결과 파일은 보관 시간(retention-hours)이 지나면 주기적으로 지운다. 작업 목록은 메모리에만 있으므로
+ * 재시작 전에 만든 파일이나 남은 임시 파일도 수정 시각으로 정리한다 (/pdf/** 캐시 시간도 같은 값을 쓴다). */
+@Service
+@Slf4j
+public class PdfJobService {
+
+    private final InspectionRepository inspectionRepository;
+    private final InspectionService inspectionService;
+    private final PdfService pdfService;
+    private final PdfCacheService pdfCacheService;
+    private final ThreadPoolTaskExecutor pdfJobExecutor;
+
+    @Value("${pdf.job.output-dir:uploads/pdf}")
+    private String outputDir;
+
+    @Value("${pdf.job.retention-hours:24}")
+    private long retentionHours;
+
+    private Path outputPath;
+
+    private final Map<String, PdfJob> jobs = new ConcurrentHashMap<>();
+
+    public PdfJobService(
+        InspectionRepository inspectionRepository,
+        InspectionService inspectionService,
+        PdfService pdfService,
+        PdfCacheService pdfCacheService,
+        @Qualifier("pdfJobExecutor") ThreadPoolTaskExecutor pdfJobExecutor
+    ) {
+        this.inspectionRepository = inspectionRepository;
+        this.inspectionService = inspectionService;
+        this.pdfService = pdfService;
+        this.pdfCacheService = pdfCacheService;
+        this.pdfJobExecutor = pdfJobExecutor;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        outputPath = Paths.get(outputDir);
+        Files.createDirectories(outputPath);
+    }
+
+    /* PDF 생성 작업 등록. 같은 버전의 작업이 이미 있으면 그 작업을 반환 */
+    public PdfJobDTO submit(Long inspectionId) {
+        if (!inspectionRepository.existsById(inspectionId)) {
+            throw new InspectionNotFoundException(inspectionId);
+        }
+        purgeExpired();
+
+        long version = pdfCacheService.currentVersion(inspectionId);
+        PdfJob existing = jobs.values().stream()
+            .filter(job -> job.inspectionId.equals(inspectionId)
+                && job.version == version
+                && !"FAILED".equals(job.status))
+            .findFirst()
+            .orElse(null);
+        if (existing != null) {
+            return existing.toDTO();
+        }
+
+        PdfJob job = new PdfJob(UUID.randomUUID().toString(), inspectionId, version);
+        jobs.put(job.jobId, job);
+        try {
+            pdfJobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.jobId);
+            throw new ServiceBusyException("PDF 생성 대기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.toDTO();
+    }
+
+    public PdfJobDTO getJob(String jobId) {
+        PdfJob job = jobs.get(jobId);
+        return job != null ? job.toDTO() : null;
+    }
+
+    private void run(PdfJob job) {
+        job.status = "RUNNING";
+        // 파일명은 추측할 수 없도록 작업 ID를 사용
+        String fileName = "inspection_" + job.inspectionId + "_" + job.jobId + ".pdf";
+        Path target = outputPath.resolve(fileName);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(outputPath, ".job-", ".tmp");
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                // 캐시 버전은 데이터를 읽기 전에 잡는다 (등록 이후 수정되었을 수 있으므로 job.version이 아닌 현재 값)
+                long version = pdfCacheService.currentVersion(job.inspectionId);
+                PdfCacheService.CachedPdf cached = pdfCacheService.lookup(job.inspectionId, version);
+                if (cached != null) {
+                    cached.writeTo(file);
+                } else {
+                    InspectionDetailDTO data = inspectionService.getInspectionDetail(job.inspectionId);
+                    pdfCacheService.renderThrough(job.inspectionId, version, file,
+                        pdf -> pdfService.writeInspectionPdf(data, pdf, percent -> job.progress = percent));
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            job.file = target;
+            job.url = "/pdf/" + fileName;
+            job.progress = 100;
+            job.status = "COMPLETED";
+        } catch (IOException | RuntimeException e) {
+            log.error("PDF 생성 작업 실패 (ID: {}): {}", job.inspectionId, e.getMessage(), e);
+            deleteQuietly(temp);
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.completedAt = LocalDateTime.now();
+        }
+    }
+
+    /* 보관 시간이 지난 결과 파일 정리 (재시작 전에 만든 파일과 남은 임시 파일 포함) */
+    @Scheduled(fixedDelayString = "${pdf.job.purge-interval-ms:600000}")
+    public void purgeFiles() {
+        purgeExpired();
+        FileTime threshold = FileTime.from(Instant.now().minus(retentionHours, ChronoUnit.HOURS));
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(outputPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                try {
+                    if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(threshold) < 0) {
+                        Files.deleteIfExists(file);
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("PDF 작업 파일 삭제 실패, 다음 주기에 재시도: {} ({})", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("PDF 작업 디렉터리 조회 실패: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("보관 시간이 지난 PDF 작업 파일 {}개 삭제", deleted);
+        }
+    }
+
+    /* 보관 기간이 지난 작업과 결과 파일 정리 */
+    private void purgeExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(threshold)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("PDF 작업 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static class PdfJob {
+        private final String jobId;
+        private final Long inspectionId;
+        private final long version;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile String status = "QUEUED";
+        private volatile int progress;
+        private volatile String url;
+        private volatile String error;
+        private volatile Path file;
+        private volatile LocalDateTime completedAt;
+
+        PdfJob(String jobId, Long inspectionId, long version) {
+            this.jobId = jobId;
+            this.inspectionId = inspectionId;
+            this.version = version;
+        }
+
+        PdfJobDTO toDTO() {
+            PdfJobDTO dto = new PdfJobDTO();
+            dto.setJobId(jobId);
+            dto.setInspectionId(inspectionId);
+            dto.setStatus(status);
+            dto.setProgress(progress);
+            dto.setUrl(url);
+            dto.setError(error);
+            dto.setCreatedAt(createdAt);
+            dto.setCompletedAt(completedAt);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.properties.TextAlignment;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* PDF 렌더링 공용 리소스
+ * 폰트 파일 파싱, 스타일, 로고/직인 이미지 로딩을 시작 시 한 번만 수행한다.
+ * 여기 있는 객체는 모두 읽기 전용으로만 공유하고, 문서마다 달라야 하는 PdfFont는 createFont()로 만든다. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PdfRenderContext {
+
+    // 폰트 파일이 없을 때 사용하는 font-asian 내장 한글 폰트 (임베딩 없음)
+    private static final String FALLBACK_FONT = "HYGoThic-Medium";
+    private static final String FALLBACK_ENCODING = "UniKS-UCS2-H";
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${pdf.font.location:}")
+    private String fontLocation;        // 예: classpath:fonts/NanumGothic.ttf, file:/opt/fonts/NanumGothic.ttf
+
+    @Value("${pdf.assets.logo:}")
+    private String logoLocation;
+
+    @Value("${pdf.assets.stamp:}")
+    private String stampLocation;
+
+    private FontProgram fontProgram;
+    private ImageData logo;
+    private ImageData stamp;
+
+    private Style titleStyle;
+    private Style sectionTitleStyle;
+    private Style headerCellStyle;
+    private Style labelCellStyle;
+    private Style valueCellStyle;
+    private Style statusCellStyle;
+    private Style passStatusStyle;
+    private Style failStatusStyle;
+    private Style tableBorderStyle;
+
+    @PostConstruct
+    public void init() {
+        fontProgram = loadFontProgram();
+        logo = loadImage(logoLocation);
+        stamp = loadImage(stampLocation);
+
+        titleStyle = new Style()
+            .setTextAlignment(TextAlignment.CENTER)
+            .setFontSize(24)
+            .setBold()
+            .setMarginBottom(20);
+        sectionTitleStyle = new Style().setBold();
+        headerCellStyle = new Style()
+            .setBackgroundColor(ColorConstants.LIGHT_GRAY)
+            .setTextAlignment(TextAlignment.CENTER)
+            .setBold()
+            .setPadding(10);
+        labelCellStyle = new Style()
+            .setBackgroundColor(ColorConstants.WHITE)
+            .setPadding(5);
+        valueCellStyle = new Style().setPadding(5);
+        statusCellStyle = new Style()
+            .setPadding(5)
+            .setTextAlignment(TextAlignment.CENTER);
+        passStatusStyle = new Style().setBackgroundColor(ColorConstants.LIGHT_GRAY, 0.3f);
+        failStatusStyle = new Style().setBackgroundColor(ColorConstants.PINK, 0.3f);
+        tableBorderStyle = new Style()
+            .setBackgroundColor(ColorConstants.WHITE, 0.5f)
+            .setBorder(new SolidBorder(ColorConstants.GRAY, 1));
+    }
+
+    /* A4, 여백, 한글 폰트가 설정된 문서 생성 */
+    public Document createDocument(PdfDocument pdf) throws IOException {
+        Document document = new Document(pdf, PageSize.A4);
+        document.setMargins(50, 50, 50, 50);
+        document.setFont(createFont());
+        return document;
+    }
+
+    /* 문서별 폰트. 파싱된 FontProgram을 재사용하고 실제 사용한 글자만 서브셋으로 임베딩한다 */
+    public PdfFont createFont() throws IOException {
+        if (fontProgram != null) {
+            return PdfFontFactory.createFont(fontProgram, PdfEncodings.IDENTITY_H,
+                EmbeddingStrategy.PREFER_EMBEDDED);
+        }
+        return PdfFontFactory.createFont(FALLBACK_FONT, FALLBACK_ENCODING);
+    }
+
+    public ImageData getLogo() {
+        return logo;
+    }
+
+    public ImageData getStamp() {
+        return stamp;
+    }
+
+    public Style getTitleStyle() {
+        return titleStyle;
+    }
+
+    public Style getSectionTitleStyle() {
+        return sectionTitleStyle;
+    }
+
+    public Style getHeaderCellStyle() {
+        return headerCellStyle;
+    }
+
+    public Style getLabelCellStyle() {
+        return labelCellStyle;
+    }
+
+    public Style getValueCellStyle() {
+        return valueCellStyle;
+    }
+
+    public Style getStatusCellStyle() {
+        return statusCellStyle;
+    }
+
+    public Style getPassStatusStyle() {
+        return passStatusStyle;
+    }
+
+    public Style getFailStatusStyle() {
+        return failStatusStyle;
+    }
+
+    public Style getTableBorderStyle() {
+        return tableBorderStyle;
+    }
+
+    private FontProgram loadFontProgram() {
+        if (fontLocation == null || fontLocation.isBlank()) {
+            log.info("PDF 폰트 파일이 설정되지 않아 내장 한글 폰트({})를 사용합니다", FALLBACK_FONT);
+            return null;
+        }
+        try (InputStream in = resourceLoader.getResource(fontLocation).getInputStream()) {
+            return FontProgramFactory.createFont(in.readAllBytes());
+        } catch (IOException e) {
+            log.warn("PDF 폰트 로딩 실패 ({}), 내장 한글 폰트를 사용합니다: {}", fontLocation, e.getMessage());
+            return null;
+        }
+    }
+
+    private ImageData loadImage(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            return ImageDataFactory.create(in.readAllBytes());
+        } catch (IOException | RuntimeException e) {
+            log.warn("PDF 이미지 리소스 로딩 실패 ({}): {}", location, e.getMessage());
+            return null;
+        }
+    }
+}
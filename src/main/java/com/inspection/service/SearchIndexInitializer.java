@@ -0,0 +1,30 @@
+package com.inspection.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 검색 색인이 비어 있으면(처음 실행, 색인 디렉터리 삭제) DB에서 채운다
+ * java -jar app.jar --search.rebuild 로 실행하면 색인이 있어도 다시 만든다.
+ * 재생성은 색인 스레드에서 진행되므로 기동을 늦추지 않는다. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private final SearchIndexService searchIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("search.rebuild")) {
+            log.info("검색 색인 재생성 요청 (--search.rebuild)");
+            searchIndexService.rebuild();
+        } else if (searchIndexService.documentCount() == 0) {
+            log.info("검색 색인이 비어 있어 DB에서 생성합니다");
+            searchIndexService.rebuild();
+        }
+    }
+}
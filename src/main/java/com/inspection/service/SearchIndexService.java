@@ -0,0 +1,479 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inspection.dto.SearchHitDTO;
+import com.inspection.dto.SearchResultDTO;
+import com.inspection.entity.FireSafetyInspection;
+import com.inspection.entity.Inspection;
+import com.inspection.exception.InvalidSearchException;
+import com.inspection.report.ReportType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 점검 특이사항 / 소방 점검 의견 전문 검색 (로컬 디스크 Lucene 색인)
+ * 한글은 CJKAnalyzer로 2-gram 분해해 색인한다. 점검 저장 트랜잭션이 커밋된 뒤에 변경을 대기열에 넣으므로
+ * 롤백된 변경은 색인되지 않는다. 색인 쓰기는 색인 스레드(searchIndexExecutor) 하나가 대기열을 모아
+ * 한 번에 커밋하므로 요청 스레드는 Lucene 커밋(fsync)이나 재생성을 기다리지 않는다.
+ * 색인이 어긋나면 rebuild()로 DB에서 다시 만든다 (색인 스레드에서 실행, 그동안 검색은 이전 색인으로). */
+@Service
+@Slf4j
+public class SearchIndexService {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String COMPANY = "company";
+    private static final String DATE = "date";
+    private static final String BODY = "body";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_RESULT_WINDOW = 1000;   // page * size 상한
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int MAX_CHANGES_PER_COMMIT = 1000;
+
+    @Value("${search.index.dir:index/search}")
+    private String indexDir;
+
+    // 명령행 가져오기처럼 서버와 함께 도는 프로세스는 색인(write.lock)을 열지 않는다
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor searchIndexExecutor;
+
+    private Analyzer analyzer;
+    private FSDirectory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;   // 쓰기 실패 후 복구 시 교체된다
+
+    // 색인 스레드와 종료 처리(close)만 잡는다. 요청 스레드는 대기열에 넣기만 한다
+    private final Object writeLock = new Object();
+
+    // 커밋된 점검 변경 (색인 스레드가 순서대로 반영)
+    private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private volatile boolean closing;
+
+    public SearchIndexService(
+        JdbcTemplate jdbcTemplate,
+        @Qualifier("searchIndexExecutor") ThreadPoolTaskExecutor searchIndexExecutor
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    /* 대기열의 변경 하나 (추가/갱신할 문서와 지울 키) */
+    private record Change(List<Entry> entries, List<Term> deletes) {
+    }
+
+    /* 색인 한 건 (점검 종류 + ID가 키) */
+    public record Entry(ReportType type, Long id, String title, String companyName,
+                        LocalDate inspectionDate, String body) {
+
+        public static Entry of(Inspection inspection) {
+            String companyName = inspection.getCompany() != null ? inspection.getCompany().getCompanyName() : null;
+            return new Entry(ReportType.INSPECTION, inspection.getInspectionId(), companyName, companyName,
+                inspection.getInspectionDate(), join(inspection.getManagerName(), inspection.getSpecialNotes()));
+        }
+
+        public static Entry of(FireSafetyInspection inspection) {
+            String companyName = inspection.getCompany() != null ? inspection.getCompany().getCompanyName() : null;
+            return new Entry(ReportType.FIRE_SAFETY, inspection.getFireInspectionId(), inspection.getBuildingName(),
+                companyName, inspection.getInspectionDate(),
+                join(inspection.getAddress(), inspection.getFireExtinguisherStatus(), inspection.getFireAlarmStatus(),
+                    inspection.getFireEvacuationStatus(), inspection.getFireWaterStatus(),
+                    inspection.getFireFightingStatus(), inspection.getEtcComment()));
+        }
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            log.info("검색 색인 사용 안 함 (search.index.enabled=false): 색인 갱신은 서버에서 재생성으로 반영");
+            return;
+        }
+        Path dir = Paths.get(indexDir);
+        Files.createDirectories(dir);
+        analyzer = new CJKAnalyzer();
+        directory = FSDirectory.open(dir);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    /* 아직 반영하지 못한 변경을 커밋하고 닫는다 (진행 중인 재생성은 다음 페이지에서 중단) */
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        closing = true;
+        synchronized (writeLock) {
+            commit(poll(Integer.MAX_VALUE));
+            searcherManager.close();
+            writer.close();
+            directory.close();
+            analyzer.close();
+        }
+    }
+
+    public int documentCount() {
+        return enabled ? writer.getDocStats().numDocs : 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /* 트랜잭션 커밋 이후 색인 추가/갱신 (트랜잭션 밖이면 즉시) */
+    public void indexAfterCommit(Entry entry) {
+        indexAfterCommit(List.of(entry));
+    }
+
+    public void indexAfterCommit(Collection<Entry> entries) {
+        if (!enabled) {
+            return;
+        }
+        Change change = new Change(List.copyOf(entries), List.of());
+        afterCommit(() -> enqueue(change));
+    }
+
+    /* 트랜잭션 커밋 이후 색인에서 제거 */
+    public void removeAfterCommit(ReportType type, Long id) {
+        if (!enabled) {
+            return;
+        }
+        Change change = new Change(List.of(), List.of(key(type, id)));
+        afterCommit(() -> enqueue(change));
+    }
+
+    /* 검색어를 2-gram으로 분해해 모두 포함하는 문서를 관련도순으로 (type이 있으면 해당 종류만) */
+    public SearchResultDTO search(String text, ReportType type, int page, int size) {
+        long started = System.nanoTime();
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int offset = Math.max(page, 0) * limit;
+        if (offset + limit > MAX_RESULT_WINDOW) {
+            throw new InvalidSearchException("검색 결과는 앞쪽 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        Query query = enabled ? buildQuery(text, type) : null;
+        List<SearchHitDTO> hits = new ArrayList<>();
+        long totalHits = 0;
+        if (query != null) {
+            SearcherManager manager = searcherManager;
+            try {
+                IndexSearcher searcher = manager.acquire();
+                try {
+                    TopScoreDocCollector collector = TopScoreDocCollector.create(offset + limit, Integer.MAX_VALUE);
+                    searcher.search(query, collector);
+                    TopDocs topDocs = collector.topDocs(offset, limit);
+                    totalHits = collector.getTotalHits();   // 범위를 벗어난 페이지에서도 전체 건수
+                    StoredFields storedFields = searcher.storedFields();
+                    for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                        hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                    }
+                } finally {
+                    manager.release(searcher);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("검색 색인을 읽을 수 없습니다.", e);
+            }
+        }
+        return new SearchResultDTO(text, totalHits, Math.max(page, 0), limit,
+            (System.nanoTime() - started) / 1_000_000, hits);
+    }
+
+    /* DB의 점검 / 소방 점검 전체로 색인 재생성 요청 (색인 스레드에서 실행하고 바로 반환)
+     * 이미 대기 중이거나 진행 중인 재생성이 있으면 그 재생성으로 충분하므로 false */
+    public boolean rebuild() {
+        if (!enabled) {
+            throw new IllegalStateException("검색 색인을 사용하지 않는 프로세스입니다 (search.index.enabled=false)");
+        }
+        if (!rebuildRequested.compareAndSet(false, true)) {
+            return false;
+        }
+        searchIndexExecutor.execute(this::drain);
+        return true;
+    }
+
+    /* 색인 스레드: 재생성 요청과 대기열을 비울 때까지 처리 (변경은 최대 MAX_CHANGES_PER_COMMIT개씩 한 번에 커밋) */
+    private void drain() {
+        synchronized (writeLock) {
+            while (!closing) {
+                if (rebuildRequested.get()) {
+                    rebuildNow();
+                    continue;
+                }
+                List<Change> batch = poll(MAX_CHANGES_PER_COMMIT);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                commit(batch);
+            }
+        }
+    }
+
+    /* 재생성은 커밋 전까지 검색에 보이지 않는다. 그 사이 들어온 변경은 페이지마다 함께 반영하고(나중에 읽은 값이 최신),
+     * 실패하면 마지막 커밋 상태로 되돌린 뒤 그 변경만 다시 반영한다 */
+    private void rebuildNow() {
+        long started = System.currentTimeMillis();
+        List<Change> applied = new ArrayList<>();
+        try {
+            writer.deleteAll();
+            long count = rebuildInspections(applied) + rebuildFireSafetyInspections(applied);
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("검색 색인 재생성 완료: {}건, {}ms", count, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException e) {
+            log.error("검색 색인 재생성 실패: {}", e.getMessage(), e);
+            rollbackQuietly();
+            commit(applied);
+        } finally {
+            rebuildRequested.set(false);
+        }
+    }
+
+    /* 재생성 페이지 사이에 대기열의 변경 반영 (커밋은 재생성 끝에 한 번) */
+    private void applyPending(List<Change> applied) throws IOException {
+        if (closing) {
+            throw new IllegalStateException("종료 중이라 재생성을 중단합니다");
+        }
+        for (Change change : poll(Integer.MAX_VALUE)) {
+            apply(change);
+            applied.add(change);
+        }
+    }
+
+    private long rebuildInspections(List<Change> applied) throws IOException {
+        long lastId = 0;
+        long count = 0;
+        while (true) {
+            List<Entry> page = jdbcTemplate.query(
+                "SELECT i.inspection_id, c.company_name, i.inspection_date, i.manager_name, i.special_notes " +
+                "FROM inspection i LEFT JOIN company c ON c.company_id = i.company_id " +
+                "WHERE i.inspection_id > ? ORDER BY i.inspection_id LIMIT ?",
+                (rs, rowNum) -> new Entry(ReportType.INSPECTION, rs.getLong(1), rs.getString(2), rs.getString(2),
+                    rs.getObject(3, LocalDate.class), join(rs.getString(4), rs.getString(5))),
+                lastId, REBUILD_PAGE_SIZE);
+            for (Entry entry : page) {
+                writer.updateDocument(key(entry.type(), entry.id()), toDocument(entry));
+            }
+            applyPending(applied);
+            count += page.size();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                return count;
+            }
+            lastId = page.get(page.size() - 1).id();
+        }
+    }
+
+    private long rebuildFireSafetyInspections(List<Change> applied) throws IOException {
+        long lastId = 0;
+        long count = 0;
+        while (true) {
+            List<Entry> page = jdbcTemplate.query(
+                "SELECT f.fire_inspection_id, f.building_name, c.company_name, f.inspection_date, f.address, " +
+                "f.fire_extinguisher_status, f.fire_alarm_status, f.fire_evacuation_status, " +
+                "f.fire_water_status, f.fire_fighting_status, f.etc_comment " +
+                "FROM fire_safety_inspections f LEFT JOIN company c ON c.company_id = f.company_id " +
+                "WHERE f.fire_inspection_id > ? ORDER BY f.fire_inspection_id LIMIT ?",
+                (rs, rowNum) -> new Entry(ReportType.FIRE_SAFETY, rs.getLong(1), rs.getString(2), rs.getString(3),
+                    rs.getObject(4, LocalDate.class),
+                    join(rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8),
+                        rs.getString(9), rs.getString(10), rs.getString(11))),
+                lastId, REBUILD_PAGE_SIZE);
+            for (Entry entry : page) {
+                writer.updateDocument(key(entry.type(), entry.id()), toDocument(entry));
+            }
+            applyPending(applied);
+            count += page.size();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                return count;
+            }
+            lastId = page.get(page.size() - 1).id();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /* 대기열에 넣고 색인 스레드를 깨운다 (이미 실행 대기 중이면 그 실행이 함께 처리) */
+    private void enqueue(Change change) {
+        pending.add(change);
+        searchIndexExecutor.execute(this::drain);
+    }
+
+    private List<Change> poll(int max) {
+        List<Change> batch = new ArrayList<>();
+        Change change;
+        while (batch.size() < max && (change = pending.poll()) != null) {
+            batch.add(change);
+        }
+        return batch;
+    }
+
+    /* 색인 갱신은 DB 커밋 이후라 실패해도 요청에는 영향이 없다 (rebuild로 복구) */
+    private void commit(List<Change> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (Change change : batch) {
+                apply(change);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.error("검색 색인 갱신 실패 (재생성 필요): {}", e.getMessage(), e);
+            rollbackQuietly();
+        }
+    }
+
+    private void apply(Change change) throws IOException {
+        for (Entry entry : change.entries()) {
+            writer.updateDocument(key(entry.type(), entry.id()), toDocument(entry));
+        }
+        for (Term delete : change.deletes()) {
+            writer.deleteDocuments(delete);
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            // rollback은 writer를 닫으므로 마지막 커밋 상태로 다시 연다
+            writer.rollback();
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            SearcherManager previous = searcherManager;
+            searcherManager = new SearcherManager(writer, null);
+            previous.close();
+        } catch (IOException e) {
+            log.error("검색 색인 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private Query buildQuery(String text, ReportType type) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(TITLE, text, BooleanClause.Occur.MUST);
+        Query body = builder.createBooleanQuery(BODY, text, BooleanClause.Occur.MUST);
+        if (title == null && body == null) {
+            return null;    // 불용어만 있는 검색어
+        }
+
+        BooleanQuery.Builder fields = new BooleanQuery.Builder();
+        if (title != null) {
+            fields.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (body != null) {
+            fields.add(body, BooleanClause.Occur.SHOULD);
+        }
+        if (type == null) {
+            return fields.build();
+        }
+        return new BooleanQuery.Builder()
+            .add(fields.build(), BooleanClause.Occur.MUST)
+            .add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER)
+            .build();
+    }
+
+    private static Document toDocument(Entry entry) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(entry.type(), entry.id()).text(), Field.Store.NO));
+        document.add(new StringField(TYPE, entry.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, entry.id()));
+        if (entry.title() != null) {
+            document.add(new TextField(TITLE, entry.title(), Field.Store.YES));
+        }
+        if (entry.companyName() != null) {
+            document.add(new StoredField(COMPANY, entry.companyName()));
+        }
+        if (entry.inspectionDate() != null) {
+            document.add(new StoredField(DATE, entry.inspectionDate().toString()));
+        }
+        if (entry.body() != null) {
+            document.add(new TextField(BODY, entry.body(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static SearchHitDTO toHit(Document document, float score) {
+        String date = document.get(DATE);
+        return new SearchHitDTO(document.get(TYPE), document.getField(ID).numericValue().longValue(),
+            document.get(TITLE), document.get(COMPANY), date != null ? LocalDate.parse(date) : null, score);
+    }
+
+    private static Term key(ReportType type, Long id) {
+        return new Term(KEY, type.name() + ":" + id);
+    }
+
+    private static String join(String... values) {
+        StringJoiner joiner = new StringJoiner("\n");
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                joiner.add(value);
+            }
+        }
+        return joiner.length() == 0 ? null : joiner.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package com.inspection.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inspection.entity.Signature;
+import com.inspection.exception.InvalidSignatureException;
+import com.inspection.repository.SignatureRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/* 서명 이미지 저장/조회
+ * 화면에서 받은 data URL(base64)을 디코딩해 signatures 테이블에 저장하고 SHA-256 키만 돌려준다.
+ * 인증 없이 API 출처에서 그대로 내려보내는 바이트이므로 PNG/JPEG만 받으며, 형식은 헤더가 아니라 내용(매직 바이트)으로 정한다. */
+@Service
+@RequiredArgsConstructor
+public class SignatureService {
+
+    public static final String URL_PREFIX = "/api/signatures/";
+
+    private static final Pattern SIGNATURE_ID = Pattern.compile("[0-9a-f]{64}");
+    private static final Set<String> ALLOWED_TYPES = Set.of("image/png", "image/jpeg");
+
+    private final SignatureRepository signatureRepository;
+
+    /* 서명 저장 후 키 반환
+     * 값이 이미 저장된 서명의 키나 URL(/api/signatures/{id})이면 그대로 키로 사용한다 (수정 화면에서 되돌려 보낸 경우) */
+    @Transactional
+    public String store(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String reference = value.startsWith(URL_PREFIX) ? value.substring(URL_PREFIX.length()) : value;
+        if (isSignatureId(reference) && signatureRepository.existsById(reference)) {
+            return reference;
+        }
+        return storeImage(decodeDataUrl(value));
+    }
+
+    /* 이미지 바이트 저장 후 키 반환 (PNG/JPEG가 아니면 400). 이전 서명 파일을 옮길 때도 쓴다 */
+    @Transactional
+    public String storeImage(byte[] data) {
+        String contentType = imageType(data);
+        if (contentType == null) {
+            throw new InvalidSignatureException("서명 이미지는 PNG 또는 JPEG여야 합니다");
+        }
+
+        String signatureId = sha256(data);
+        if (!signatureRepository.existsById(signatureId)) {
+            Signature signature = new Signature();
+            signature.setSignatureId(signatureId);
+            signature.setContentType(contentType);
+            signature.setSize(data.length);
+            signature.setData(data);
+            signatureRepository.save(signature);
+        }
+        return signatureId;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Signature> find(String signatureId) {
+        if (!isSignatureId(signatureId)) {
+            return Optional.empty();
+        }
+        return signatureRepository.findById(signatureId);
+    }
+
+    /* PDF 렌더링용 이미지 바이트 (없으면 null) */
+    @Transactional(readOnly = true)
+    public byte[] loadData(String signatureId) {
+        return find(signatureId).map(Signature::getData).orElse(null);
+    }
+
+    /* 화면에서 <img src>로 쓸 수 있는 조회 URL */
+    public static String url(String signatureId) {
+        return signatureId != null ? URL_PREFIX + signatureId : null;
+    }
+
+    public static boolean isSignatureId(String value) {
+        return value != null && SIGNATURE_ID.matcher(value).matches();
+    }
+
+    /* 매직 바이트로 본 이미지 형식 (PNG/JPEG가 아니면 null) */
+    public static String imageType(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 8 && (data[0] & 0xFF) == 0x89 && data[1] == 'P' && data[2] == 'N' && data[3] == 'G'
+                && data[4] == '\r' && data[5] == '\n' && data[6] == 0x1A && data[7] == '\n') {
+            return "image/png";
+        }
+        if (data.length > 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        return null;
+    }
+
+    /* data:image/png;base64,... 형식만 받는다 (엄격한 base64: 허용되지 않는 문자가 있으면 400) */
+    private byte[] decodeDataUrl(String value) {
+        int comma = value.indexOf(',');
+        if (!value.startsWith("data:") || comma < 0) {
+            throw new InvalidSignatureException("서명은 data URL 형식이어야 합니다");
+        }
+        String header = value.substring(5, comma).toLowerCase(Locale.ROOT);    // image/png;base64
+        int semicolon = header.indexOf(';');
+        String contentType = semicolon >= 0 ? header.substring(0, semicolon).trim() : header.trim();
+        if (!ALLOWED_TYPES.contains(contentType) || !header.endsWith(";base64")) {
+            throw new InvalidSignatureException("서명은 base64로 인코딩된 PNG 또는 JPEG여야 합니다");
+        }
+        try {
+            return Base64.getDecoder().decode(value.substring(comma + 1).getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSignatureException("서명 데이터의 base64 형식이 올바르지 않습니다");
+        }
+    }
+
+    private String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.inspection.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.entity.StoredFile;
+import com.inspection.repository.StoredFileRepository;
+import com.inspection.storage.StorageArea;
+import com.inspection.storage.StorageKey;
+import com.inspection.storage.StorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 파일 참조 수 관리 (stored_files)
+ * 점검 이미지/소방 첨부/공지·문의 이미지 목록이 바뀔 때 전후 차이만큼 호출자 트랜잭션 안에서 참조 수를 증감한다.
+ * 같은 내용을 여러 게시물이 공유하므로 참조 수가 0이 되어도 바로 지우지 않고, 유예 시간이 지난 뒤 collect()가
+ * 행 삭제와 파일 삭제를 한 트랜잭션으로 처리한다 (그 사이 같은 내용이 다시 올라오면 행 잠금 때문에 새로 쓴다).
+ * stored_files에 없는 이전 방식(UUID_원본파일명) 파일은 게시물 하나에만 속하므로 기존처럼 삭제 대기열로 보낸다. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoredFileService {
+
+    private static final String ACQUIRE =
+        "INSERT INTO stored_files (storage_key, area, name, ref_count, created_at, last_seen_at) " +
+        "VALUES (?, ?, ?, 1, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, last_seen_at = VALUES(last_seen_at)";
+    private static final String RELEASE =
+        "UPDATE stored_files SET ref_count = ref_count - 1, last_seen_at = ? WHERE storage_key = ? AND ref_count > 0";
+    private static final String COLLECT =
+        "DELETE FROM stored_files WHERE storage_key = ? AND ref_count = 0 AND last_seen_at < ?";
+
+    @Value("${storage.gc.grace-minutes:60}")
+    private long graceMinutes;
+
+    @Value("${storage.gc.batch-size:100}")
+    private int batchSize;
+
+    private final StoredFileRepository storedFileRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FileCleanupService fileCleanupService;
+
+    private final AtomicBoolean collecting = new AtomicBoolean();
+
+    /* 한 게시물의 첨부 목록 변경 반영 (생성은 before = null, 삭제는 after = null). 같은 파일을 두 번 넣어도 한 번만 센다 */
+    public void applyChange(StorageArea area, Collection<String> before, Collection<String> after) {
+        Set<String> previous = names(before);
+        Set<String> current = names(after);
+        List<String> added = new ArrayList<>();
+        for (String name : current) {
+            if (!previous.contains(name)) {
+                added.add(name);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String name : previous) {
+            if (!current.contains(name)) {
+                removed.add(name);
+            }
+        }
+        acquire(area, added);
+        release(area, removed);
+    }
+
+    /* 새로 저장된 게시물 여러 건의 첨부를 한 번에 반영 (일괄 가져오기) */
+    public void applyCreated(StorageArea area, Collection<? extends Collection<String>> created) {
+        List<String> added = new ArrayList<>();
+        for (Collection<String> attachments : created) {
+            added.addAll(names(attachments));
+        }
+        acquire(area, added);
+    }
+
+    /* 참조가 없어진 지 유예 시간이 지난 파일 정리 */
+    @Scheduled(fixedDelayString = "${storage.gc.interval-ms:600000}")
+    public void collect() {
+        if (!collecting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusMinutes(graceMinutes);
+            int collected = 0;
+            List<StoredFile> batch;
+            boolean progressed;
+            do {
+                batch = storedFileRepository.findUnreferenced(before, PageRequest.of(0, batchSize));
+                progressed = false;
+                for (StoredFile file : batch) {
+                    if (collect(file, before)) {
+                        collected++;
+                        progressed = true;
+                    }
+                }
+            } while (batch.size() == batchSize && progressed);
+            if (collected > 0) {
+                log.info("참조 없는 업로드 파일 {}개 삭제", collected);
+            }
+        } finally {
+            collecting.set(false);
+        }
+    }
+
+    /* 행을 지운 트랜잭션 안에서 파일도 지운다. 파일 삭제가 실패하면 행도 남겨 다음 주기에 다시 시도 */
+    private boolean collect(StoredFile file, LocalDateTime before) {
+        try {
+            Boolean deleted = transactionTemplate.execute(status -> {
+                if (jdbcTemplate.update(COLLECT, file.getStorageKey(), Timestamp.valueOf(before)) == 0) {
+                    return false;   // 그 사이 다시 업로드되었거나 참조됨
+                }
+                Path original = storageService.resolve(StorageKey.of(file.getArea(), file.getName()));
+                try {
+                    Files.deleteIfExists(original);
+                    // 같은 디렉터리를 쓰는 영역끼리 공유될 수 있으므로 파생본은 영역과 무관하게 지운다
+                    for (Path derivative : imageDerivativeService.derivativePaths(original)) {
+                        Files.deleteIfExists(derivative);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            });
+            return Boolean.TRUE.equals(deleted);
+        } catch (RuntimeException e) {
+            log.warn("업로드 파일 정리 실패, 다음 주기에 재시도: {} ({})", file.getStorageKey(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void acquire(StorageArea area, List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{StorageKey.of(area, name).toString(), area.name(), name, now, now});
+        }
+        jdbcTemplate.batchUpdate(ACQUIRE, rows);
+    }
+
+    private void release(StorageArea area, List<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(names.size());
+        for (String name : names) {
+            keys.add(StorageKey.of(area, name).toString());
+        }
+        Set<String> registered = new HashSet<>(storedFileRepository.findExistingKeys(keys));
+
+        // stored_files에 없는 이름은 이전 방식 파일
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(names.size());
+        List<String> legacy = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (registered.contains(keys.get(i))) {
+                rows.add(new Object[]{now, keys.get(i)});
+            } else {
+                legacy.add(names.get(i));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(RELEASE, rows);
+        }
+        if (legacy.isEmpty()) {
+            return;
+        }
+        if (area.hasDerivatives()) {
+            fileCleanupService.enqueueWithDerivatives(area, legacy);
+        } else {
+            fileCleanupService.enqueue(area, legacy);
+        }
+    }
+
+    /* 저장소 키가 될 수 있는 이름만 (중복 제거, 순서 유지) */
+    private static Set<String> names(Collection<String> names) {
+        Set<String> result = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                if (StorageKey.isValidName(name)) {
+                    result.add(name);
+                }
+            }
+        }
+        return result;
+    }
+}
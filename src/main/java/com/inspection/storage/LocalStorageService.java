@@ -0,0 +1,269 @@
+package com.inspection.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/* 로컬 파일시스템 저장소 (내용 주소 방식)
+ * 업로드를 한 번 읽으며 SHA-256을 계산해 "해시.확장자"를 파일명으로 쓰고, 같은 내용이 이미 있으면 디스크에 쓰지 않는다.
+ * 새 내용은 임시 파일에 쓰고(transferTo) fsync한 뒤 원자적으로 이름을 바꾸므로 반쯤 쓰인 파일이 키로 보이지 않는다.
+ * 여러 파일은 전용 스레드 풀에서 동시에 처리하고, 디렉터리 항목은 요청당 한 번 fsync한다.
+ * 저장한 파일은 stored_files에 참조 수 0으로 등록(또는 last_seen_at 갱신)하는데, 호출자 트랜잭션과 별도로 먼저
+ * 커밋해서 참조가 붙기 전에 StoredFileService의 정리 작업이 같은 파일을 지우지 못하게 한다. */
+@Service
+@Slf4j
+public class LocalStorageService implements StorageService {
+
+    @Value("${storage.local.root:uploads}")
+    private String root;
+
+    private static final String TOUCH =
+        "UPDATE stored_files SET last_seen_at = ? WHERE storage_key = ?";
+    private static final String REGISTER =
+        "INSERT INTO stored_files (storage_key, area, name, ref_count, size, created_at, last_seen_at) " +
+        "VALUES (?, ?, ?, 0, ?, ?, ?) ON DUPLICATE KEY UPDATE last_seen_at = VALUES(last_seen_at)";
+
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+
+    private final ThreadPoolTaskExecutor storageWriteExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate registerTransaction;
+
+    private Path rootPath;
+
+    public LocalStorageService(
+        @Qualifier("storageWriteExecutor") ThreadPoolTaskExecutor storageWriteExecutor,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.storageWriteExecutor = storageWriteExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        // 게시물 트랜잭션 안에서 호출되어도 등록은 바로 커밋 (롤백되어도 파일과 행이 함께 남아 정리된다)
+        this.registerTransaction = new TransactionTemplate(transactionManager);
+        this.registerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        rootPath = Paths.get(root).toAbsolutePath().normalize();
+        for (StorageArea area : StorageArea.values()) {
+            Files.createDirectories(rootPath.resolve(area.getDirectory()));
+        }
+    }
+
+    @Override
+    public List<StorageKey> store(StorageArea area, List<MultipartFile> files) throws IOException {
+        List<MultipartFile> parts = new ArrayList<>();
+        if (files != null) {
+            for (MultipartFile file : files) {
+                if (file != null && !file.isEmpty()) {
+                    parts.add(file);
+                }
+            }
+        }
+        if (parts.isEmpty()) {
+            return List.of();
+        }
+
+        // 이미 디스크에 있던 파일은 다른 게시물이 참조 중일 수 있으므로 실패해도 지우지 않는다.
+        // 이번에 쓴 파일은 참조 수 0으로 등록되어 있어 유예 시간이 지나면 정리된다.
+        List<StorageKey> keys = new ArrayList<>(parts.size());
+        try {
+            if (parts.size() == 1) {
+                keys.add(put(area, parts.get(0)));   // 한 장이면 스레드 전환 없이
+            } else {
+                List<CompletableFuture<StorageKey>> puts = new ArrayList<>(parts.size());
+                for (MultipartFile part : parts) {
+                    puts.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return put(area, part);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, storageWriteExecutor));
+                }
+                CompletableFuture.allOf(puts.toArray(CompletableFuture<?>[]::new)).join();
+                for (CompletableFuture<StorageKey> put : puts) {
+                    keys.add(put.join());
+                }
+            }
+            syncDirectory(rootPath.resolve(area.getDirectory()));
+        } catch (IOException | RuntimeException e) {
+            throw unwrap(e);
+        }
+        return keys;
+    }
+
+    @Override
+    public StorageKey keyOf(StorageArea area, Path source, String originalFilename) throws IOException {
+        try (InputStream in = Files.newInputStream(source)) {
+            return StorageKey.of(area, digest(in) + extension(originalFilename));
+        }
+    }
+
+    @Override
+    public void storeFile(StorageKey key, Path source) throws IOException {
+        // 저장소 루트와 같은 파일시스템이면 rename, 아니면 복사
+        place(key, Files.size(source), temp -> Files.move(source, temp));
+        Files.deleteIfExists(source);   // 같은 내용이 이미 있어 옮기지 않은 경우
+        syncDirectory(rootPath.resolve(key.area().getDirectory()));
+    }
+
+    @Override
+    public Path resolve(StorageKey key) {
+        return rootPath.resolve(key.area().getDirectory()).resolve(key.name());
+    }
+
+    @Override
+    public Path resolvePublic(String relativePath) {
+        if (relativePath == null) {
+            return null;
+        }
+        Path path = rootPath;
+        for (String segment : relativePath.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            // "."으로 시작하는 이름(.., .upload-*.tmp, .derivative-*.tmp)과 다른 구분자는 받지 않는다
+            if (segment.startsWith(".") || segment.indexOf('\\') >= 0
+                    || segment.indexOf('\0') >= 0 || segment.indexOf(':') >= 0) {
+                return null;
+            }
+            path = path.resolve(segment);
+        }
+        return path.equals(rootPath) ? null : path;
+    }
+
+    /* 임시 파일을 채우는 방법 (업로드 part 기록 또는 이어받기 파일 이동) */
+    @FunctionalInterface
+    private interface TempWriter {
+        void write(Path temp) throws IOException;
+    }
+
+    /* 한 파일 저장: 해시 계산 -> 등록 -> (처음 보는 내용이면) 임시 파일 기록 후 원자적 이름 변경 */
+    private StorageKey put(StorageArea area, MultipartFile part) throws IOException {
+        String hash;
+        try (InputStream in = part.getInputStream()) {
+            hash = digest(in);
+        }
+        // 절대 경로를 넘겨야 컨테이너가 업로드 임시 파일 기준 상대 경로로 해석하지 않는다
+        return place(StorageKey.of(area, hash + extension(part.getOriginalFilename())), part.getSize(),
+            temp -> part.transferTo(temp.toFile()));
+    }
+
+    private StorageKey place(StorageKey key, long size, TempWriter writer) throws IOException {
+        Path target = resolve(key);
+        if (register(key, size) && Files.exists(target)) {
+            return key;     // 같은 내용이 이미 저장되어 있음
+        }
+
+        Path temp = target.resolveSibling(".upload-" + UUID.randomUUID() + ".tmp");
+        try {
+            writer.write(temp);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            // 같은 내용을 동시에 올린 요청끼리는 어느 쪽이 이겨도 결과가 같다
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return key;
+    }
+
+    /* 내용을 한 번 스트리밍하며 SHA-256 계산 */
+    private static String digest(InputStream in) throws IOException {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            sha256.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    /* stored_files에 등록하고, 이미 등록된 키였는지 반환 (last_seen_at 갱신으로 정리 유예 시간을 다시 시작)
+     * 정리 작업이 같은 행을 지우는 중이면 그 트랜잭션(파일 삭제 포함)이 끝날 때까지 기다렸다가 새로 등록한다 */
+    private boolean register(StorageKey key, long size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Boolean known = registerTransaction.execute(status -> {
+            if (jdbcTemplate.update(TOUCH, now, key.toString()) > 0) {
+                return true;
+            }
+            jdbcTemplate.update(REGISTER, key.toString(), key.area().name(), key.name(), size, now, now);
+            return false;
+        });
+        return Boolean.TRUE.equals(known);
+    }
+
+    /* 새 파일의 디렉터리 항목까지 디스크에 기록 (디렉터리 fsync를 지원하지 않는 OS에서는 생략) */
+    private void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 fsync 생략 ({}): {}", directory, e.getMessage());
+        }
+    }
+
+    /* 원본 파일명의 확장자 (정적 파일 제공 시 Content-Type 결정용). 없거나 이상하면 빈 문자열 */
+    private static String extension(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        String base = originalFilename.substring(
+            Math.max(originalFilename.lastIndexOf('/'), originalFilename.lastIndexOf('\\')) + 1);
+        int dot = base.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = base.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static IOException unwrap(Exception e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        return new IOException("파일 저장 실패: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,35 @@
+package com.inspection.storage;
+
+/* 업로드 파일 저장 영역. 디렉터리는 저장소 루트(storage.local.root) 기준이며 /uploads/** 로 제공된다 */
+public enum StorageArea {
+    INSPECTION_IMAGES("images", true),                // 전기설비 점검 첨부 이미지
+    FIRE_SAFETY_IMAGES("fire-safety-images", true),   // 소방 점검 첨부 이미지
+    INQUIRY_IMAGES("inquiry_images", false),          // 문의사항 이미지
+    NOTICE_IMAGES("images", false);                   // 공지사항 이미지
+
+    private final String directory;
+    private final boolean derivatives;      // 축소 JPEG 파생본을 만드는 영역인지
+
+    StorageArea(String directory, boolean derivatives) {
+        this.directory = directory;
+        this.derivatives = derivatives;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public boolean hasDerivatives() {
+        return derivatives;
+    }
+
+    /* 이 디렉터리에 파생본을 만드는 영역이 있는지 (같은 디렉터리를 여러 영역이 쓸 수 있다) */
+    public static boolean hasDerivatives(String directory) {
+        for (StorageArea area : values()) {
+            if (area.derivatives && area.directory.equals(directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inspection.storage;
+
+/* 저장된 파일의 키 (영역 + 파일명). DB에는 기존과 같이 name만 저장한다
+ * 파일명은 한 디렉터리 안의 이름이어야 하므로 경로 구분자나 ".."는 만들 수 없다. */
+public record StorageKey(StorageArea area, String name) {
+
+    public StorageKey {
+        if (area == null || !isValidName(name)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + area + "/" + name);
+        }
+    }
+
+    public static StorageKey of(StorageArea area, String name) {
+        return new StorageKey(area, name);
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && !name.isBlank()
+            && name.indexOf('/') < 0 && name.indexOf('\\') < 0 && name.indexOf('\0') < 0
+            && !name.equals(".") && !name.equals("..");
+    }
+
+    @Override
+    public String toString() {
+        return area.getDirectory() + "/" + name;
+    }
+}
@@ -0,0 +1,30 @@
+package com.inspection.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/* 업로드 파일 저장소 */
+public interface StorageService {
+
+    /* 파일들을 저장하고 입력 순서대로 키를 반환 (빈 파일은 건너뜀)
+     * 키는 내용의 SHA-256이므로 같은 내용은 한 번만 저장되고, 이미 있는 내용이면 쓰지 않고 기존 키를 돌려준다.
+     * 반환 시점에 모든 파일이 디스크에 기록(fsync)되어 있다. 저장된 파일은 참조가 생기기 전까지
+     * 참조 수 0으로 등록되며, 실패로 남은 파일도 StoredFileService의 정리 대상이 된다. */
+    List<StorageKey> store(StorageArea area, List<MultipartFile> files) throws IOException;
+
+    /* 디스크에 이미 모인 파일(이어받기 업로드 결과)의 저장소 키를 같은 규칙으로 계산. 파일은 그대로 둔다 */
+    StorageKey keyOf(StorageArea area, Path source, String originalFilename) throws IOException;
+
+    /* keyOf로 얻은 키로 파일 저장. source는 저장소로 옮겨지거나, 같은 내용이 이미 있으면 삭제된다.
+     * 키를 먼저 기록해 두면 옮긴 뒤 실패해도 그 키로 이어서 처리할 수 있다 (keyOf 이후 source는 바뀌지 않아야 한다) */
+    void storeFile(StorageKey key, Path source) throws IOException;
+
+    /* 키에 해당하는 로컬 파일 경로 (PDF 첨부, 파생본 생성, 삭제에 사용) */
+    Path resolve(StorageKey key);
+
+    /* 공개 URL(/uploads/ 이후 경로) -> 로컬 파일 경로. 저장소 루트 밖이거나 숨김 파일(쓰기 중인 임시 파일 등)이면 null */
+    Path resolvePublic(String relativePath);
+}
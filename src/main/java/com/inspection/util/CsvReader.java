@@ -0,0 +1,90 @@
+package com.inspection.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/* RFC 4180 CSV 레코드 읽기 (따옴표, "" 이스케이프, 따옴표 안 줄바꿈 지원)
+ * 파일 전체를 읽지 않고 한 레코드씩 돌려준다. 호출자가 BufferedReader 등으로 감싸서 넘긴다. */
+public class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;    // -2: 미리 읽은 문자 없음
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /* 다음 레코드의 필드 목록, 입력 끝이면 null. 빈 줄은 건너뛴다 */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                continue;
+            }
+            unread(c);
+            return readRecord();
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("CSV 따옴표가 닫히지 않았습니다");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r', '\n', -1 -> {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            unread(next);
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        peeked = c;
+    }
+}
@@ -0,0 +1,47 @@
+package com.inspection.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.inspection.exception.InvalidCursorException;
+
+/* 목록 커서(keyset) 인코딩
+ * 마지막 행의 (점검일, ID)를 "yyyy-MM-dd:id" 로 만든 뒤 URL-safe Base64로 감싼다.
+ * 점검일이 없는 행(목록 맨 뒤)은 ":id" 이며 date가 null인 커서가 된다.
+ * 클라이언트는 값을 해석하지 않고 다음 요청에 그대로 넘기기만 한다. */
+public final class CursorCodec {
+
+    public record Cursor(LocalDate date, Long id) {
+    }
+
+    private CursorCodec() {
+    }
+
+    public static String encode(LocalDate date, Long id) {
+        String raw = (date != null ? date.toString() : "") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            String date = raw.substring(0, separator);
+            return new Cursor(date.isEmpty() ? null : LocalDate.parse(date),
+                Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    /* 기간 조건이 있는 목록용. 점검일 없는 행은 나올 수 없으므로 date가 null인 커서는 거부 */
+    public static Cursor decodeDated(String cursor) {
+        Cursor decoded = decode(cursor);
+        if (decoded.date() == null) {
+            throw new InvalidCursorException(cursor);
+        }
+        return decoded;
+    }
+}
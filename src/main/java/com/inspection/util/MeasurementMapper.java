@@ -0,0 +1,131 @@
+package com.inspection.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.inspection.dto.MeasurementDTO;
+import com.inspection.entity.InspectionMeasurement;
+
+/* 측정개소 변환
+ * 화면/기존 JSON 형식(개소별 voltageA, currentB, temperatureN ...)과 상별 행(InspectionMeasurement) 사이를 변환한다. */
+public final class MeasurementMapper {
+
+    public static final String[] PHASES = {"A", "B", "C", "N"};
+
+    private MeasurementMapper() {
+    }
+
+    /* 개소별 Map 목록 -> 상별 행. 값이 하나도 없는 상은 저장하지 않는다 */
+    public static List<InspectionMeasurement> toRows(List<Map<String, Object>> measurements) {
+        return toRows(measurements, null);
+    }
+
+    /* rejected가 있으면 행으로 옮기지 못한 값(숫자가 아닌 측정값, 측정값 없이 개소명만 있는 개소)을 설명과 함께 모은다 */
+    public static List<InspectionMeasurement> toRows(List<Map<String, Object>> measurements, List<String> rejected) {
+        List<InspectionMeasurement> rows = new ArrayList<>();
+        if (measurements == null) {
+            return rows;
+        }
+        int pointNo = 1;
+        for (Map<String, Object> measurement : measurements) {
+            if (measurement == null) {
+                continue;
+            }
+            Object location = measurement.get("location");
+            int before = rows.size();
+            for (String phase : PHASES) {
+                Double voltage = toDouble(measurement, "voltage" + phase, pointNo, rejected);
+                Double current = toDouble(measurement, "current" + phase, pointNo, rejected);
+                Double temperature = toDouble(measurement, "temperature" + phase, pointNo, rejected);
+                addRow(rows, pointNo, location != null ? location.toString() : null,
+                    phase, voltage, current, temperature);
+            }
+            if (rejected != null && rows.size() == before && location != null && !location.toString().isBlank()) {
+                rejected.add("개소 " + pointNo + ": 측정값 없음 (location=" + location + ")");
+            }
+            pointNo++;
+        }
+        return rows;
+    }
+
+    /* 상별 행 -> 개소별 DTO (개소 번호 순서 유지) */
+    public static List<MeasurementDTO> toDTOs(List<InspectionMeasurement> rows) {
+        Map<Integer, MeasurementDTO> points = new LinkedHashMap<>();
+        for (InspectionMeasurement row : rows) {
+            MeasurementDTO dto = points.computeIfAbsent(row.getPointNo(), no -> new MeasurementDTO());
+            if (row.getLocation() != null) {
+                dto.setLocation(row.getLocation());
+            }
+            switch (row.getPhase()) {
+                case "A" -> {
+                    dto.setVoltageA(row.getVoltage());
+                    dto.setCurrentA(row.getCurrent());
+                    dto.setTemperatureA(row.getTemperature());
+                }
+                case "B" -> {
+                    dto.setVoltageB(row.getVoltage());
+                    dto.setCurrentB(row.getCurrent());
+                    dto.setTemperatureB(row.getTemperature());
+                }
+                case "C" -> {
+                    dto.setVoltageC(row.getVoltage());
+                    dto.setCurrentC(row.getCurrent());
+                    dto.setTemperatureC(row.getTemperature());
+                }
+                case "N" -> {
+                    dto.setVoltageN(row.getVoltage());
+                    dto.setCurrentN(row.getCurrent());
+                    dto.setTemperatureN(row.getTemperature());
+                }
+                default -> { }
+            }
+        }
+        return new ArrayList<>(points.values());
+    }
+
+    /* 개소별 DTO -> 상별 행 (PDF 표 등 행 단위로 다룰 때) */
+    public static List<InspectionMeasurement> fromDTOs(List<MeasurementDTO> measurements) {
+        List<InspectionMeasurement> rows = new ArrayList<>();
+        if (measurements == null) {
+            return rows;
+        }
+        int pointNo = 1;
+        for (MeasurementDTO dto : measurements) {
+            addRow(rows, pointNo, dto.getLocation(), "A", dto.getVoltageA(), dto.getCurrentA(), dto.getTemperatureA());
+            addRow(rows, pointNo, dto.getLocation(), "B", dto.getVoltageB(), dto.getCurrentB(), dto.getTemperatureB());
+            addRow(rows, pointNo, dto.getLocation(), "C", dto.getVoltageC(), dto.getCurrentC(), dto.getTemperatureC());
+            addRow(rows, pointNo, dto.getLocation(), "N", dto.getVoltageN(), dto.getCurrentN(), dto.getTemperatureN());
+            pointNo++;
+        }
+        return rows;
+    }
+
+    private static void addRow(List<InspectionMeasurement> rows, int pointNo, String location, String phase,
+                               Double voltage, Double current, Double temperature) {
+        if (voltage == null && current == null && temperature == null) {
+            return;
+        }
+        rows.add(new InspectionMeasurement(pointNo, location, phase, voltage, current, temperature));
+    }
+
+    /* 숫자 또는 숫자 문자열만 인정 (빈 값, "-" 등은 null, 빈 값이 아닌데 null이 되면 rejected에 남긴다) */
+    private static Double toDouble(Map<String, Object> measurement, String key, int pointNo, List<String> rejected) {
+        Object value = measurement.get(key);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Double.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                // 아래에서 기록
+            }
+        }
+        if (rejected != null && value != null && !(value instanceof String text && text.isBlank())) {
+            rejected.add("개소 " + pointNo + " " + key + ": '" + value + "'");
+        }
+        return null;
+    }
+}
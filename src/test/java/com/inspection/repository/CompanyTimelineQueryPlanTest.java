@@ -0,0 +1,167 @@
+package com.inspection.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/* 업체별 점검 이력 조회가 (company_id, inspection_date) 인덱스를 타는지 실제 MySQL의 EXPLAIN으로 확인
+ * Hibernate가 만든 SELECT를 그대로 EXPLAIN한다. 날짜순 인덱스(idx_*_date_id)로 바뀌면 업체 행을 찾으려고
+ * 전체를 훑게 되므로, 쿼리나 인덱스를 고칠 때 이 테스트로 막는다. Docker가 없으면 건너뛴다.
+ * 실행: ./gradlew test --tests CompanyTimelineQueryPlanTest (Docker 필요, mysql:8.0 이미지를 받는다) */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)   // ANALYZE TABLE이 암묵적으로 커밋하므로 테스트 트랜잭션 없이
+class CompanyTimelineQueryPlanTest {
+
+    private static final int COMPANIES = 50;
+    private static final int ROWS_PER_COMPANY = 100;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    private static final LocalDate FROM = LocalDate.of(2021, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2021, 12, 31);
+    private static final LocalDate CURSOR_DATE = LocalDate.of(2021, 6, 30);
+    private static final long CURSOR_ID = 1_000_000L;
+    private static final int PAGE_SIZE = 21;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    // Hibernate가 실행한 SQL (바인딩 전)
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                (StatementInspector) sql -> {
+                    STATEMENTS.add(sql);
+                    return sql;
+                });
+        }
+    }
+
+    @Autowired
+    private InspectionRepository inspectionRepository;
+
+    @Autowired
+    private FireSafetyInspectionRepository fireSafetyInspectionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /* 업체 50곳 x 점검 100건 (업체마다 날짜가 고르게 퍼지도록). 통계를 갱신해야 옵티마이저가 실제 분포로 고른다 */
+    @BeforeAll
+    void seed() {
+        List<Object[]> companies = new ArrayList<>();
+        for (long companyId = 1; companyId <= COMPANIES; companyId++) {
+            companies.add(new Object[]{companyId, "업체" + companyId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO company (company_id, company_name, active) VALUES (?, ?, true)", companies);
+
+        List<Object[]> inspections = new ArrayList<>();
+        List<Object[]> fireInspections = new ArrayList<>();
+        long id = 1;
+        for (int row = 0; row < ROWS_PER_COMPANY; row++) {
+            for (long companyId = 1; companyId <= COMPANIES; companyId++, id++) {
+                LocalDate date = FIRST_DATE.plusDays((row * 11L + companyId) % 1500);
+                inspections.add(new Object[]{id, companyId, date, "관리자"});
+                fireInspections.add(new Object[]{id, companyId, date, "건물"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO inspection (inspection_id, company_id, inspection_date, manager_name, version) " +
+            "VALUES (?, ?, ?, ?, 0)", inspections);
+        jdbcTemplate.batchUpdate("INSERT INTO fire_safety_inspections " +
+            "(fire_inspection_id, company_id, inspection_date, building_name, version) VALUES (?, ?, ?, ?, 0)", fireInspections);
+        jdbcTemplate.execute("ANALYZE TABLE company, inspection, fire_safety_inspections");
+    }
+
+    @BeforeEach
+    void clear() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void inspectionTimelineFirstUsesCompanyDateIndex() {
+        inspectionRepository.findCompanyTimelineFirst(7L, FROM, TO, PageRequest.of(0, PAGE_SIZE));
+        assertIndex("idx_inspection_company_date", 7L, FROM, TO, PAGE_SIZE);
+    }
+
+    @Test
+    void inspectionTimelineAfterUsesCompanyDateIndex() {
+        inspectionRepository.findCompanyTimelineAfter(7L, FROM, CURSOR_DATE, CURSOR_DATE, CURSOR_ID,
+            PageRequest.of(0, PAGE_SIZE));
+        assertIndex("idx_inspection_company_date", 7L, FROM, CURSOR_DATE, CURSOR_DATE, CURSOR_DATE, CURSOR_ID, PAGE_SIZE);
+    }
+
+    @Test
+    void fireInspectionTimelineFirstUsesCompanyDateIndex() {
+        fireSafetyInspectionRepository.findCompanyTimelineFirst(7L, FROM, TO, PageRequest.of(0, PAGE_SIZE));
+        assertIndex("idx_fire_inspection_company_date", 7L, FROM, TO, PAGE_SIZE);
+    }
+
+    @Test
+    void fireInspectionTimelineAfterUsesCompanyDateIndex() {
+        fireSafetyInspectionRepository.findCompanyTimelineAfter(7L, FROM, CURSOR_DATE, CURSOR_DATE, CURSOR_ID,
+            PageRequest.of(0, PAGE_SIZE));
+        assertIndex("idx_fire_inspection_company_date", 7L, FROM, CURSOR_DATE, CURSOR_DATE, CURSOR_DATE, CURSOR_ID,
+            PAGE_SIZE);
+    }
+
+    /* 방금 실행한 SELECT를 같은 값으로 EXPLAIN (바인딩 순서는 JPQL의 파라미터 등장 순서와 LIMIT)
+     * 점검 테이블 행(인덱스 후보에 기대 인덱스가 있는 행)의 key가 그 인덱스여야 하고,
+     * 최신순 정렬도 인덱스 순서(역방향 스캔)로 처리되어 filesort가 없어야 한다 */
+    private void assertIndex(String index, Object... parameters) {
+        String select = STATEMENTS.stream()
+            .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("실행된 SELECT가 없습니다"));
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + select, parameters);
+        Map<String, Object> inspectionRow = plan.stream()
+            .filter(row -> row.get("possible_keys") != null && row.get("possible_keys").toString().contains(index))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError(index + " 인덱스를 쓸 수 있는 테이블이 없습니다: " + plan));
+        assertThat(inspectionRow.get("key"))
+            .as("EXPLAIN %s%n%s", select, plan)
+            .isEqualTo(index);
+        assertThat(String.valueOf(inspectionRow.get("Extra")))
+            .as("EXPLAIN %s%n%s", select, plan)
+            .doesNotContain("Using filesort");
+    }
+}